@@ -0,0 +1,82 @@
+package com.example.uno.game.test.uno_game_test;
+
+import com.example.uno.game.test.uno_game_test.Models.GameSaveCodec;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Writes saved games to one file on a background thread, so the FX thread never waits for the disk.
+ * The caller encodes the game (see GameSaveCodec.encode); if several saves arrive while one
+ * is being written, only the newest is written after it.
+ */
+class Autosaver {
+    // Queued instead of a save to delete the file
+    private static final byte[] DELETE = new byte[0];
+
+    private final Path file;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "autosave");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicReference<byte[]> pending = new AtomicReference<>();
+
+    Autosaver(Path file) {
+        this.file = file;
+    }
+
+    void save(byte[] save) {
+        enqueue(save);
+    }
+
+    /**
+     * Deletes the save, for example when its game is over.
+     */
+    void delete() {
+        enqueue(DELETE);
+    }
+
+    /**
+     * Finishes writing the latest save, waiting up to a second, and stops the thread.
+     */
+    void shutdown() {
+        writer.shutdown();
+        try {
+            writer.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void enqueue(byte[] save) {
+        // A write is already queued if there was a pending save; it will pick this one up instead
+        if (pending.getAndSet(save) == null) {
+            try {
+                writer.execute(this::writePending);
+            } catch (RejectedExecutionException e) {
+                // Already shut down
+            }
+        }
+    }
+
+    private void writePending() {
+        byte[] save = pending.getAndSet(null);
+        try {
+            if (save == DELETE) {
+                Files.deleteIfExists(file);
+            } else if (save != null) {
+                GameSaveCodec.write(save, file);
+            }
+        } catch (IOException e) {
+            // Saving is optional; the game goes on without it
+            e.printStackTrace();
+        }
+    }
+}
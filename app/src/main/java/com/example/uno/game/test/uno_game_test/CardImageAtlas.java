@@ -0,0 +1,95 @@
+package com.example.uno.game.test.uno_game_test;
+
+import com.example.uno.game.test.uno_game_test.Models.Card;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.WritableImage;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * All card images packed into one image, decoded once at the size they are shown.
+ * Card views share the atlas and only differ by their viewport, so rendering a card
+ * does no I/O or PNG decoding.
+ */
+public final class CardImageAtlas {
+    // Twice the 80x120 card views, keeping the 560x790 source aspect ratio
+    private static final int CELL_WIDTH = 160;
+    private static final int CELL_HEIGHT = 226;
+    private static final int COLUMNS = 8;
+    private static final int BACK_INDEX = Card.FACE_COUNT;
+
+    private final WritableImage atlas;
+    private final Rectangle2D[] viewports = new Rectangle2D[Card.FACE_COUNT + 1];
+
+    private CardImageAtlas() {
+        int cells = Card.FACE_COUNT + 1;
+        int rows = (cells + COLUMNS - 1) / COLUMNS;
+        atlas = new WritableImage(COLUMNS * CELL_WIDTH, rows * CELL_HEIGHT);
+
+        for (int id = 0; id < Card.FACE_COUNT; id++) {
+            pack(id, Card.of((byte) id).getImagePath());
+        }
+        pack(BACK_INDEX, "/Images/Cards/card_back.png");
+    }
+
+    private static class Holder {
+        private static final CardImageAtlas INSTANCE = new CardImageAtlas();
+    }
+
+    /**
+     * @return The shared atlas, loading it on first use
+     */
+    public static CardImageAtlas get() {
+        return Holder.INSTANCE;
+    }
+
+    public Image getImage() {
+        return atlas;
+    }
+
+    /**
+     * Shows the given card in the view.
+     * @return false if the card's image could not be loaded
+     */
+    public boolean show(ImageView view, Card card) {
+        return show(view, viewports[card.getId()]);
+    }
+
+    public boolean showBack(ImageView view) {
+        return show(view, viewports[BACK_INDEX]);
+    }
+
+    private boolean show(ImageView view, Rectangle2D viewport) {
+        if (viewport == null) {
+            return false;
+        }
+        if (view.getImage() != atlas) {
+            view.setImage(atlas);
+        }
+        view.setViewport(viewport);
+        return true;
+    }
+
+    private void pack(int index, String path) {
+        Image image;
+        try (InputStream stream = CardImageAtlas.class.getResourceAsStream(path)) {
+            if (stream == null) {
+                return;
+            }
+            image = new Image(stream, CELL_WIDTH, CELL_HEIGHT, false, true);
+        } catch (IOException e) {
+            return;
+        }
+        if (image.isError()) {
+            return;
+        }
+
+        int x = (index % COLUMNS) * CELL_WIDTH;
+        int y = (index / COLUMNS) * CELL_HEIGHT;
+        atlas.getPixelWriter().setPixels(x, y, CELL_WIDTH, CELL_HEIGHT, image.getPixelReader(), 0, 0);
+        viewports[index] = new Rectangle2D(x, y, CELL_WIDTH, CELL_HEIGHT);
+    }
+}
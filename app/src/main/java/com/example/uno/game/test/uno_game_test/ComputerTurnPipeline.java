@@ -0,0 +1,142 @@
+package com.example.uno.game.test.uno_game_test;
+
+import com.example.uno.game.test.uno_game_test.Models.Card;
+import com.example.uno.game.test.uno_game_test.Models.Game;
+import com.example.uno.game.test.uno_game_test.Models.PlayerView;
+import com.example.uno.game.test.uno_game_test.Models.PlayerViewSnapshot;
+import com.example.uno.game.test.uno_game_test.Models.Strategy;
+import javafx.application.Platform;
+
+import java.util.SplittableRandom;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Runs computer decisions away from the JavaFX application thread.
+ * A move request snapshots the game on the FX thread, waits for the turn delay,
+ * computes the move on a virtual thread and hands the result back to the FX thread.
+ * cancel() drops every request that has not been applied yet.
+ */
+class ComputerTurnPipeline {
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "computer-turn-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+
+    // Requests made before the last cancel() carry an older generation and are dropped
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * A chosen move: the hand index to play, or -1 to draw, and the color to name for a wild.
+     */
+    record ComputerMove(int cardIndex, Card.Color wildColor) {
+    }
+
+    /**
+     * Chooses a move for the current (computer) player with their strategy after the given delay.
+     * Must be called on the FX thread; apply is called there with the move,
+     * unless the request was cancelled in the meantime.
+     */
+    void requestMove(Game game, long delayMillis, Consumer<ComputerMove> apply) {
+        long requestGeneration = generation.get();
+        Strategy strategy = game.getCurrentPlayer().getStrategy();
+        // The worker gets its own copy of the game state and its own random source
+        PlayerView view = PlayerViewSnapshot.of(game.getEngine().getCurrentPlayerView(),
+                new SplittableRandom(game.getEngine().getRandom().nextLong()));
+        try {
+            timer.schedule(() -> submit(requestGeneration, () -> {
+                ComputerMove move = chooseMove(strategy, view);
+                Platform.runLater(() -> {
+                    if (generation.get() == requestGeneration) {
+                        apply.accept(move);
+                    }
+                });
+            }), delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Already shut down
+        }
+    }
+
+    /**
+     * Runs work on a worker thread, then whenDone on the FX thread unless cancelled.
+     * whenDone also runs if work throws, so callers can always undo what they set up for it.
+     * @return Completes once work has returned or thrown, or straight away if it never runs
+     */
+    CompletableFuture<Void> runInBackground(Runnable work, Runnable whenDone) {
+        long requestGeneration = generation.get();
+        CompletableFuture<Void> finished = new CompletableFuture<>();
+        boolean submitted = submit(requestGeneration, () -> {
+            try {
+                work.run();
+            } finally {
+                finished.complete(null);
+                Platform.runLater(() -> {
+                    if (generation.get() == requestGeneration) {
+                        whenDone.run();
+                    }
+                });
+            }
+        });
+        if (!submitted) {
+            finished.complete(null);
+        }
+        return finished;
+    }
+
+    boolean isCancelled(long requestGeneration) {
+        return generation.get() != requestGeneration;
+    }
+
+    long currentGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Drops every pending request, for example when a new game starts.
+     */
+    void cancel() {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Cancels pending requests and stops all threads. The pipeline cannot be reused.
+     */
+    void shutdown() {
+        cancel();
+        timer.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    // Returns false if the task was dropped
+    private boolean submit(long requestGeneration, Runnable task) {
+        if (generation.get() != requestGeneration) {
+            return false;
+        }
+        try {
+            workers.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            // Already shut down
+            return false;
+        }
+    }
+
+    private static ComputerMove chooseMove(Strategy strategy, PlayerView view) {
+        int cardIndex = strategy.chooseCard(view);
+        Card.Color wildColor = null;
+        if (cardIndex >= 0 && cardIndex < view.getHandSize()
+                && Card.colorOf(view.getCard(cardIndex)) == Card.Color.WILD.ordinal()) {
+            wildColor = Card.Color.values()[strategy.chooseColor(view)];
+        }
+        return new ComputerMove(cardIndex, wildColor);
+    }
+}
@@ -0,0 +1,675 @@
+package com.example.uno.game.test.uno_game_test;
+
+import com.example.uno.game.test.uno_game_test.Models.*;
+import javafx.animation.FadeTransition;
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.fxml.FXML;
+import javafx.fxml.FXMLLoader;
+import javafx.fxml.Initializable;
+import javafx.geometry.Pos;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.Alert;
+import javafx.scene.control.Button;
+import javafx.scene.control.ButtonType;
+import javafx.scene.control.Dialog;
+import javafx.scene.control.Label;
+import javafx.scene.image.ImageView;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyCodeCombination;
+import javafx.scene.input.KeyCombination;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.Text;
+import javafx.stage.Stage;
+import javafx.stage.WindowEvent;
+import javafx.util.Duration;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.ResourceBundle;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+
+public class GameController implements Initializable {
+    @FXML private VBox gamePane;
+    @FXML private HBox playerHand;
+    @FXML private VBox opponentArea;
+    @FXML private ImageView discardPileView;
+    @FXML private Button drawButton;
+    @FXML private Label statusLabel;
+    @FXML private Label currentColorLabel;
+    @FXML private Rectangle colorIndicator;
+    @FXML private StackPane notificationArea; // New: Area for displaying notifications like skip and reverse
+    @FXML private Label gameDirectionLabel; // New: Shows current game direction
+    @FXML private Label lastActionLabel; // New: Shows the last card played and its effect
+
+    // Moves kept for undo, counting every computer move
+    private static final int UNDO_HISTORY = 512;
+    // Every game started here is recorded, one file per finished game (see GameRecordWriter)
+    private static final Path RECORD_DIR = Path.of(System.getProperty("uno.recordDir",
+            Path.of(System.getProperty("user.home"), ".uno", "records").toString()));
+    // The game in progress is saved here after every move, so it can be resumed from the menu
+    static final Path SAVE_FILE = Path.of(System.getProperty("uno.saveFile",
+            Path.of(System.getProperty("user.home"), ".uno", "autosave.unos").toString()));
+    private static final KeyCombination UNDO_KEY = new KeyCodeCombination(KeyCode.Z, KeyCombination.SHORTCUT_DOWN);
+
+    private Game game;
+    private final CardImageAtlas cardImages = CardImageAtlas.get(); // Loaded once, shared by all card views
+    private HandRenderer handRenderer;
+    private OpponentListRenderer opponentRenderer;
+    private final ComputerTurnPipeline computerTurns = new ComputerTurnPipeline();
+    private boolean isFirstTurn = true; // Track if this is the first turn
+    private TurnPacing turnPacing = TurnPacing.fromSystemProperty();
+    private volatile boolean computerTurnsRunning; // Input is ignored while an instant batch runs off the FX thread
+    private CompletableFuture<Void> computerBatch = CompletableFuture.completedFuture(null); // The latest instant batch
+    private GameRecordWriter gameRecord; // Moves of the current game, written to RECORD_DIR
+    private Path gameRecordFile;
+    private Player pendingUno; // Set by the game when a player gets down to one card
+    private final GameEventQueue gameEvents = new GameEventQueue(); // Events since the last render
+    private final Autosaver autosaver = new Autosaver(SAVE_FILE);
+    private final GameListener eventRenderer = new GameListener() {
+        @Override
+        public void onCardPlayed(int player, byte cardId) {
+            updateLastAction(game.getPlayers().get(player), Card.of(cardId));
+        }
+
+        @Override
+        public void onDirectionChanged(boolean clockwise) {
+            updateGameDirectionLabel(clockwise);
+        }
+
+        @Override
+        public void onUno(int player) {
+            pendingUno = game.getPlayers().get(player);
+        }
+    };
+
+    @Override
+    public void initialize(URL location, ResourceBundle resources) {
+        // Start a new game with 8 players (1 human + 7 computer)
+        setGame(newGame(8, RuleSet.STANDARD));
+        handRenderer = new HandRenderer(playerHand, cardImages, this::handleCardClick);
+        opponentRenderer = new OpponentListRenderer(opponentArea);
+
+        // Set up the notification area if it doesn't exist in FXML
+        if (notificationArea == null) {
+            notificationArea = new StackPane();
+            notificationArea.setPrefHeight(50);
+            gamePane.getChildren().add(1, notificationArea); // Add after status label
+        }
+
+        // Set up the game direction label if it doesn't exist in FXML
+        if (gameDirectionLabel == null) {
+            gameDirectionLabel = new Label("Direction: Clockwise →");
+            gameDirectionLabel.setStyle("-fx-font-weight: bold;");
+            HBox directionBox = new HBox(gameDirectionLabel);
+            directionBox.setAlignment(Pos.CENTER);
+            gamePane.getChildren().add(directionBox);
+        }
+
+        // Set up the last action label if it doesn't exist in FXML
+        if (lastActionLabel == null) {
+            lastActionLabel = new Label("Game started!");
+            lastActionLabel.setStyle("-fx-font-style: italic;");
+            HBox lastActionBox = new HBox(lastActionLabel);
+            lastActionBox.setAlignment(Pos.CENTER);
+            gamePane.getChildren().add(lastActionBox);
+        }
+
+        // Stop computer turns when this screen is replaced or its window closes
+        gamePane.sceneProperty().addListener((observable, oldScene, newScene) -> {
+            if (newScene == null) {
+                shutdown();
+            } else {
+                newScene.getAccelerators().put(UNDO_KEY, this::undoLastTurn);
+                newScene.windowProperty().addListener((windowObservable, oldWindow, newWindow) -> {
+                    if (newWindow != null) {
+                        newWindow.addEventHandler(WindowEvent.WINDOW_HIDDEN, e -> shutdown());
+                    }
+                });
+            }
+        });
+
+        updateUI();
+        drawButton.setOnAction(e -> handleDrawCard());
+        checkAndStartComputerTurn();
+    }
+
+    public void startGame(int numPlayers, java.util.List<String> playerNames) {
+        startGame(numPlayers, playerNames, RuleSet.STANDARD);
+    }
+
+    public void startGame(int numPlayers, java.util.List<String> playerNames, RuleSet rules) {
+        setGame(newGame(numPlayers, rules));
+        openGameRecord();
+
+        // Set the player names
+        for (int i = 0; i < Math.min(numPlayers, playerNames.size()); i++) {
+            Player player = game.getPlayers().get(i);
+            player.setName(playerNames.get(i));
+        }
+
+        useComputerStrategy();
+        isFirstTurn = true;
+        updateUI();
+        updateGameDirectionLabel(true);
+        autosave();
+    }
+
+    /**
+     * Continues a game loaded with loadSavedGame.
+     */
+    public void resumeGame(Game savedGame) {
+        setGame(savedGame);
+        useComputerStrategy();
+        isFirstTurn = false;
+        lastActionLabel.setText("Game resumed");
+        updateUI();
+        updateGameDirectionLabel(game.isClockwise());
+        checkAndStartComputerTurn();
+        offerChallenge();
+    }
+
+    /**
+     * @return The saved game, or null if there is none or it cannot be read
+     */
+    static Game loadSavedGame() {
+        try {
+            return GameSaveCodec.read(SAVE_FILE);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    // Computer players use -Duno.strategy=greedy|color-majority|heuristic|ismcts, greedy by default
+    private void useComputerStrategy() {
+        Strategy strategy;
+        try {
+            strategy = Strategy.byName(System.getProperty("uno.strategy", "greedy").trim());
+        } catch (IllegalArgumentException e) {
+            strategy = GreedyStrategy.INSTANCE;
+        }
+        for (Player player : game.getPlayers()) {
+            if (player.isComputer()) {
+                player.setStrategy(strategy);
+            }
+        }
+    }
+
+    public void setTurnPacing(TurnPacing turnPacing) {
+        this.turnPacing = turnPacing;
+    }
+
+    // Games are seeded so they can be recorded and replayed
+    private static Game newGame(int numPlayers, RuleSet rules) {
+        return new Game(numPlayers, new SplittableRandom().nextLong(), rules);
+    }
+
+    private void setGame(Game newGame) {
+        stopComputerTurns();
+        if (game != null) {
+            game.removeListener(gameEvents);
+        }
+        closeGameRecord();
+        game = newGame;
+        game.setUndoCapacity(UNDO_HISTORY);
+        pendingUno = null;
+        gameEvents.clear();
+        game.addListener(gameEvents);
+    }
+
+    // Applies everything the game reported since the last move, then renders once
+    private void renderGameEvents() {
+        gameEvents.drain(eventRenderer);
+        autosave();
+        updateUI();
+        checkGameStatus();
+        offerChallenge();
+    }
+
+    // Asks the human whether to challenge a wild draw four played on them, once their turn comes
+    private void offerChallenge() {
+        Player human = game.getPlayers().get(0);
+        if (game.isGameOver() || game.getCurrentPlayer() != human || !game.canChallenge()) {
+            return;
+        }
+        Game challengeGame = game;
+        Platform.runLater(() -> {
+            if (game != challengeGame || game.getCurrentPlayer() != human || !game.canChallenge()) {
+                return;
+            }
+            ButtonType challenge = new ButtonType("Challenge");
+            ButtonType accept = new ButtonType("Don't Challenge", ButtonType.CANCEL.getButtonData());
+            Alert alert = new Alert(Alert.AlertType.CONFIRMATION, "", challenge, accept);
+            alert.setTitle("Wild Draw Four");
+            alert.setHeaderText("Challenge the Wild Draw Four?");
+            alert.setContentText("If it was played while holding a card of the previous color, its player draws 4. "
+                    + "Otherwise you draw " + (game.getPendingDraw() + 2) + ".");
+            if (alert.showAndWait().orElse(accept) == challenge) {
+                int handSize = human.getHandSize();
+                game.challenge();
+                lastActionLabel.setText(human.getHandSize() > handSize
+                        ? "Challenge failed: you drew " + (human.getHandSize() - handSize) + " cards"
+                        : "Challenge succeeded!");
+                renderGameEvents();
+                checkAndStartComputerTurn();
+            }
+        });
+    }
+
+    // Encodes the game here, on the FX thread, and leaves the writing to the autosave thread
+    private void autosave() {
+        if (game.isGameOver()) {
+            autosaver.delete();
+        } else {
+            autosaver.save(GameSaveCodec.encode(game));
+        }
+    }
+
+    private void updateUI() {
+        // Update player hand and opponent card counts, touching only what changed
+        handRenderer.render(game.getPlayers().get(0));
+        opponentRenderer.render(game);
+
+        // Update discard pile top card (left empty if card images aren't available)
+        cardImages.show(discardPileView, game.getTopCard());
+
+        // Update current color indicator
+        updateColorIndicator();
+
+        // Update status label
+        Player currentPlayer = game.getCurrentPlayer();
+        statusLabel.setText("Current turn: " + currentPlayer.getName());
+    }
+
+    private void updateColorIndicator() {
+        Card.Color currentColor = game.getCurrentColor();
+        colorIndicator.setFill(getJavaFXColor(currentColor));
+        currentColorLabel.setText("Current Color: " + currentColor);
+    }
+
+    static Color getJavaFXColor(Card.Color cardColor) {
+        switch (cardColor) {
+            case RED: return Color.RED;
+            case BLUE: return Color.BLUE;
+            case GREEN: return Color.GREEN;
+            case YELLOW: return Color.YELLOW;
+            case WILD: return Color.BLACK;
+            default: return Color.GRAY;
+        }
+    }
+
+    private void handleCardClick(int cardIndex) {
+        if (computerTurnsRunning) {
+            return;
+        }
+        Player human = game.getPlayers().get(0);
+        if (game.getCurrentPlayer() != human) {
+            // Not player's turn, but an identical card may jump in when the rules allow it
+            if (game.canJumpIn(human, cardIndex)) {
+                computerTurns.cancel();
+                game.jumpIn(human, cardIndex);
+                lastActionLabel.setText("You jumped in!");
+                renderGameEvents();
+                checkAndStartComputerTurn();
+            }
+            return;
+        }
+
+        Card card = game.getPlayers().get(0).getHand().get(cardIndex);
+
+        Card.Color wildColor = null;
+        if (card.getColor() == Card.Color.WILD) {
+            // For wild cards, prompt for color selection
+            wildColor = showColorSelectionDialog();
+        }
+
+        if (game.playCard(cardIndex, wildColor)) {
+            // Update labels, check for UNO or win
+            renderGameEvents();
+
+            // Start computer turns if needed
+            checkAndStartComputerTurn();
+        } else {
+            // Invalid move
+            Alert alert = new Alert(Alert.AlertType.WARNING);
+            alert.setTitle("Invalid Move");
+            alert.setHeaderText("You can't play this card");
+            alert.setContentText(game.getPendingDraw() > 0
+                    ? "Stack a draw card on the penalty, or draw to take all " + game.getPendingDraw() + " cards."
+                    : "The card must match the color or number of the top discard card.");
+            alert.showAndWait();
+        }
+    }
+
+    // New: Update the last action label based on the card played
+    private void updateLastAction(Player player, Card card) {
+        String actionText = player == game.getPlayers().get(0) ? "Played " : player.getName() + " played ";
+
+        // Add card information
+        if (card.getType() == Card.Type.NUMBER) {
+            actionText += card.getColor() + " " + card.getNumber();
+        } else {
+            actionText += card.getColor() + " " + card.getType();
+        }
+
+        // Handle special cards
+        if (card.getType() == Card.Type.SKIP) {
+            actionText += " - Player skipped!";
+            showNotification("SKIP!", Color.RED);
+        } else if (card.getType() == Card.Type.REVERSE) {
+            actionText += " - Direction reversed!";
+            showNotification("REVERSE!", Color.ORANGE);
+        } else if (card.getType() == Card.Type.DRAW_TWO) {
+            actionText += " - Next player draws 2 cards!";
+            showNotification("+2 CARDS", Color.RED);
+        } else if (card.getType() == Card.Type.DRAW_FOUR) {
+            actionText += " - Next player draws 4 cards!";
+            showNotification("+4 CARDS", Color.DARKRED);
+        }
+
+        lastActionLabel.setText(actionText);
+    }
+
+    // New: Show a temporary notification for important game events
+    private void showNotification(String message, Color color) {
+        Text notification = new Text(message);
+        notification.setFont(Font.font("System", FontWeight.BOLD, 24));
+        notification.setFill(color);
+
+        notificationArea.getChildren().clear();
+        notificationArea.getChildren().add(notification);
+
+        // Fade out effect
+        FadeTransition fadeOut = new FadeTransition(Duration.seconds(0.5), notification);
+        fadeOut.setFromValue(1.0);
+        fadeOut.setToValue(0.0);
+        fadeOut.setDelay(Duration.seconds(1.5));
+        fadeOut.play();
+
+        // Remove after fading
+        fadeOut.setOnFinished(e -> notificationArea.getChildren().clear());
+    }
+
+    // New: Update the game direction indicator
+    private void updateGameDirectionLabel(boolean isClockwise) {
+        if (isFirstTurn) {
+            // On first turn, just set without toggling
+            gameDirectionLabel.setText("Direction: Clockwise →");
+            isFirstTurn = false;
+            return;
+        }
+
+        // Get current direction from label text
+        boolean currentIsClockwise = gameDirectionLabel.getText().contains("Clockwise");
+
+        if (isClockwise) {
+            // Set to specific value
+            gameDirectionLabel.setText("Direction: Clockwise →");
+        } else if (!isClockwise) {
+            // Set to specific value
+            gameDirectionLabel.setText("Direction: Counter-clockwise ←");
+        } else {
+            // Toggle current direction
+            if (currentIsClockwise) {
+                gameDirectionLabel.setText("Direction: Counter-clockwise ←");
+            } else {
+                gameDirectionLabel.setText("Direction: Clockwise →");
+            }
+        }
+    }
+
+    // Returns the chosen color, or null if the dialog was cancelled
+    private Card.Color showColorSelectionDialog() {
+        Dialog<Card.Color> dialog = new Dialog<>();
+        dialog.setTitle("Choose a Color");
+        dialog.setHeaderText("Select a color for the Wild card.");
+
+        // Create color buttons
+        Button redButton = new Button("Red");
+        redButton.setOnAction(event -> {
+            dialog.setResult(Card.Color.RED);
+            dialog.close();
+        });
+
+        Button blueButton = new Button("Blue");
+        blueButton.setOnAction(event -> {
+            dialog.setResult(Card.Color.BLUE);
+            dialog.close();
+        });
+
+        Button greenButton = new Button("Green");
+        greenButton.setOnAction(event -> {
+            dialog.setResult(Card.Color.GREEN);
+            dialog.close();
+        });
+
+        Button yellowButton = new Button("Yellow");
+        yellowButton.setOnAction(event -> {
+            dialog.setResult(Card.Color.YELLOW);
+            dialog.close();
+        });
+
+        // Style the color buttons to show their actual colors
+        redButton.setStyle("-fx-background-color: #ff6666; -fx-text-fill: white;");
+        blueButton.setStyle("-fx-background-color: #6666ff; -fx-text-fill: white;");
+        greenButton.setStyle("-fx-background-color: #66ff66; -fx-text-fill: white;");
+        yellowButton.setStyle("-fx-background-color: #ffff66; -fx-text-fill: black;");
+
+        HBox buttonBox = new HBox(10, redButton, blueButton, greenButton, yellowButton);
+        buttonBox.setAlignment(Pos.CENTER);
+
+        dialog.getDialogPane().setContent(buttonBox);
+        dialog.getDialogPane().getButtonTypes().add(ButtonType.CANCEL);
+
+        Optional<Card.Color> result = dialog.showAndWait();
+        return result.orElse(null);
+    }
+
+    private void handleDrawCard() {
+        if (computerTurnsRunning || game.getCurrentPlayer() != game.getPlayers().get(0)) {
+            // Not player's turn
+            return;
+        }
+
+        Player human = game.getPlayers().get(0);
+        int handSize = human.getHandSize();
+        game.drawCardForPlayer();
+        int drawn = human.getHandSize() - handSize;
+        if (game.getCurrentPlayer() == human) {
+            // Draw until playable keeps the turn once a playable card turns up
+            lastActionLabel.setText("You drew " + drawn + (drawn == 1 ? " card" : " cards") + " and can play");
+        } else {
+            lastActionLabel.setText(drawn == 1 ? "You drew a card" : "You drew " + drawn + " cards");
+        }
+        renderGameEvents();
+
+        // Start computer turns if needed
+        checkAndStartComputerTurn();
+    }
+
+    // Takes back moves up to the start of the human's previous turn, including the computer turns since
+    private void undoLastTurn() {
+        if (computerTurnsRunning || game.isGameOver() || !game.canUndo()) {
+            return;
+        }
+
+        computerTurns.cancel();
+        Player human = game.getPlayers().get(0);
+        while (game.undo() && game.getCurrentPlayer() != human) {
+            // Keep going back until it is the human's turn
+        }
+
+        gameEvents.clear();
+        pendingUno = null;
+        lastActionLabel.setText("Move undone");
+        autosave();
+        updateUI();
+        updateGameDirectionLabel(game.isClockwise());
+        checkAndStartComputerTurn();
+    }
+
+    private void checkGameStatus() {
+        Player winner = game.getWinner();
+        if (winner != null) {
+            Alert alert = new Alert(Alert.AlertType.INFORMATION);
+            alert.setTitle("Game Over");
+            alert.setHeaderText(winner.getName() + " wins!");
+            alert.setContentText("Game finished.");
+            alert.showAndWait();
+
+            try {
+                FXMLLoader loader = new FXMLLoader(getClass().getResource("GameSetupUI.fxml"));
+                Parent root = loader.load();
+                Stage stage = (Stage) statusLabel.getScene().getWindow();
+                // Replacing the root takes this screen off the scene, which shuts the controller down
+                stage.getScene().setRoot(root);
+                stage.setTitle("UNO - Setup Game");
+            } catch (Exception e) {
+                // Still on this screen with everything running, so carry on with a new game
+                e.printStackTrace();
+                setGame(newGame(4, game.getRules()));
+                openGameRecord();
+                isFirstTurn = true;
+                updateUI();
+                updateGameDirectionLabel(true);
+            }
+            return;
+        }
+
+        if (pendingUno != null) {
+            // Announced once, when the player gets down to one card
+            String message = pendingUno.getName() + " has UNO!";
+            statusLabel.setText(message);
+            showNotification("UNO!", Color.PURPLE);
+            pendingUno = null;
+        }
+    }
+
+
+    private void checkAndStartComputerTurn() {
+        Player currentPlayer = game.getCurrentPlayer();
+
+        if (currentPlayer.isComputer() && !game.isGameOver()) {
+            // Update status immediately to show whose turn it is
+            Platform.runLater(() -> {
+                statusLabel.setText("Current turn: " + currentPlayer.getName() + " (thinking...)");
+            });
+
+            if (turnPacing == TurnPacing.INSTANT) {
+                playComputerTurnsInstantly();
+                return;
+            }
+
+            // Add a delay to make the computer's turn visible to the player
+            computerTurns.requestMove(game, turnPacing.getDelayMillis(), this::applyComputerMove);
+        }
+    }
+
+    // Plays every computer turn up to the human's next turn off the FX thread, then renders once
+    private void playComputerTurnsInstantly() {
+        Game batchGame = game;
+        long batch = computerTurns.currentGeneration();
+        computerTurnsRunning = true;
+        computerBatch = computerTurns.runInBackground(() -> {
+            while (batchGame.getCurrentPlayer().isComputer() && !batchGame.isGameOver()
+                    && !computerTurns.isCancelled(batch)) {
+                batchGame.playComputerTurn();
+            }
+        }, () -> {
+            computerTurnsRunning = false;
+            renderGameEvents();
+        });
+    }
+
+    // Called on the FX thread with the move the pipeline chose for the current computer player
+    private void applyComputerMove(ComputerTurnPipeline.ComputerMove move) {
+        Player computer = game.getCurrentPlayer();
+        if (!computer.isComputer() || game.isGameOver()) {
+            return;
+        }
+
+        if (game.applyMove(move.cardIndex(), move.wildColor()) == null) {
+            lastActionLabel.setText(computer.getName() + " drew a card");
+        }
+        // The last action label for played cards is updated from the game's events
+        renderGameEvents();
+
+        // Check if it's still computer's turn
+        checkAndStartComputerTurn();
+    }
+
+    /**
+     * Cancels pending computer turns and waits for an instant batch that is still playing.
+     * Until then, the batch's thread may still be writing to the game, its record and gameEvents.
+     * The batch checks for cancellation between turns, so this waits for one computer turn at most.
+     */
+    private void stopComputerTurns() {
+        computerTurns.cancel();
+        computerBatch.exceptionally(e -> null).join();
+        computerTurnsRunning = false;
+    }
+
+    public void shutdown() {
+        stopComputerTurns();
+        computerTurns.shutdown();
+        closeGameRecord();
+        autosaver.shutdown();
+    }
+
+    // Records a newly started game from its first move. Only games started here are recorded:
+    // the placeholder game shown before setup is replaced at once, and a resumed game did not
+    // start from its seed here.
+    private void openGameRecord() {
+        try {
+            Files.createDirectories(RECORD_DIR);
+            Path file = RECORD_DIR.resolve("game-" + System.currentTimeMillis() + "-"
+                    + Long.toHexString(game.getEngine().getSeed()) + ".unor");
+            GameRecordWriter writer = new GameRecordWriter(Files.newOutputStream(file));
+            game.startRecording(writer);
+            gameRecord = writer;
+            gameRecordFile = file;
+        } catch (IOException e) {
+            // Recording is optional; the game goes on without it
+            e.printStackTrace();
+        }
+    }
+
+    // Keeps the record of a finished game; one that was abandoned or could not be written is deleted
+    private void closeGameRecord() {
+        if (gameRecord == null) {
+            return;
+        }
+        game.stopRecording();
+        boolean keep = game.isGameOver();
+        try {
+            gameRecord.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+            keep = false;
+        }
+        if (!keep) {
+            try {
+                Files.deleteIfExists(gameRecordFile);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+        gameRecord = null;
+        gameRecordFile = null;
+    }
+}
\ No newline at end of file
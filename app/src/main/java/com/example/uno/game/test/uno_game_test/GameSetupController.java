@@ -1,5 +1,6 @@
 package com.example.uno.game.test.uno_game_test;
 
+import com.example.uno.game.test.uno_game_test.Models.RuleSet;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 import javafx.fxml.FXML;
@@ -32,8 +33,8 @@ public class GameSetupController {
     @FXML private Spinner<Integer> numberOfPlayersSpinner;
     @FXML private CheckBox allowStackingCheckBox;
     @FXML private CheckBox allowJumpInCheckBox;
-    @FXML private CheckBox drawCardsCheckBox;
-    @FXML private CheckBox strictWildDrawFourCheckBox;
+    @FXML private CheckBox drawUntilPlayableCheckBox;
+    @FXML private CheckBox challengeDrawFourCheckBox;
     @FXML private Button startGameButton;
     @FXML private Button cancelButton;
     @FXML private VBox playersContainer;
@@ -205,8 +206,9 @@ public class GameSetupController {
             int numberOfPlayers = numberOfPlayersSpinner.getValue();
             boolean allowStacking = allowStackingCheckBox.isSelected();
             boolean allowJumpIn = allowJumpInCheckBox.isSelected();
-            boolean drawCards = drawCardsCheckBox.isSelected();
-            boolean strictWildDrawFour = strictWildDrawFourCheckBox.isSelected();
+            boolean drawUntilPlayable = drawUntilPlayableCheckBox.isSelected();
+            boolean challengeDrawFour = challengeDrawFourCheckBox.isSelected();
+            RuleSet rules = new RuleSet(allowStacking, allowJumpIn, drawUntilPlayable, challengeDrawFour);
 
             // Collect player names from the UI
             List<String> playerNames = new ArrayList<>();
@@ -222,7 +224,7 @@ public class GameSetupController {
 
             // Pass data to the next controller
             GameController gameUIController = loader.getController();
-            gameUIController.startGame(numberOfPlayers, playerNames);
+            gameUIController.startGame(numberOfPlayers, playerNames, rules);
 
             Stage stage = (Stage) startGameButton.getScene().getWindow();
             stage.setScene(new Scene(root));
@@ -0,0 +1,112 @@
+package com.example.uno.game.test.uno_game_test;
+
+import com.example.uno.game.test.uno_game_test.Models.Card;
+import com.example.uno.game.test.uno_game_test.Models.Deck;
+import com.example.uno.game.test.uno_game_test.Models.Player;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * Keeps an HBox showing a player's hand in sync with the model.
+ * There is one reusable node per hand slot; a render only touches the slots
+ * whose card changed and adds or removes slots at the end.
+ */
+class HandRenderer {
+    private static final byte EMPTY = Deck.NO_CARD;
+
+    private final HBox container;
+    private final CardImageAtlas cardImages;
+    private final IntConsumer onCardClicked;
+    private final List<Slot> slots = new ArrayList<>();
+    private int shownSlots;
+
+    HandRenderer(HBox container, CardImageAtlas cardImages, IntConsumer onCardClicked) {
+        this.container = container;
+        this.cardImages = cardImages;
+        this.onCardClicked = onCardClicked;
+        container.getChildren().clear();
+    }
+
+    void render(Player player) {
+        int size = player.getHandSize();
+
+        // Drop slots past the end of the hand, keeping them for later
+        if (shownSlots > size) {
+            container.getChildren().remove(size, shownSlots);
+            shownSlots = size;
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (i == slots.size()) {
+                slots.add(new Slot(i));
+            }
+            Slot slot = slots.get(i);
+            slot.show(player.getCardId(i));
+
+            if (i >= shownSlots) {
+                container.getChildren().add(slot.node);
+                shownSlots = i + 1;
+            } else if (container.getChildren().get(i) != slot.node) {
+                container.getChildren().set(i, slot.node);
+            }
+        }
+    }
+
+    private class Slot {
+        private final ImageView imageView = new ImageView();
+        private VBox placeholder;
+        private Node node;
+        private byte cardId = EMPTY;
+
+        Slot(int index) {
+            imageView.setFitHeight(120);
+            imageView.setFitWidth(80);
+            imageView.setOnMouseClicked(e -> onCardClicked.accept(index));
+            node = imageView;
+        }
+
+        void show(byte newCardId) {
+            if (newCardId == cardId) {
+                return;
+            }
+            cardId = newCardId;
+
+            Card card = Card.of(newCardId);
+            if (cardImages.show(imageView, card)) {
+                node = imageView;
+            } else {
+                // If card images aren't available, show a simple colored rectangle
+                showPlaceholder(card);
+                node = placeholder;
+            }
+        }
+
+        private void showPlaceholder(Card card) {
+            if (placeholder == null) {
+                Rectangle cardRect = new Rectangle(80, 120);
+                cardRect.setStroke(Color.BLACK);
+                placeholder = new VBox(cardRect, new Label());
+                placeholder.setAlignment(Pos.CENTER);
+                placeholder.setOnMouseClicked(imageView.getOnMouseClicked());
+            }
+
+            ((Rectangle) placeholder.getChildren().get(0)).setFill(GameController.getJavaFXColor(card.getColor()));
+            Label cardLabel = (Label) placeholder.getChildren().get(1);
+            if (card.getType() == Card.Type.NUMBER) {
+                cardLabel.setText(String.valueOf(card.getNumber()));
+            } else {
+                cardLabel.setText(card.getType().toString().substring(0, 1));
+            }
+        }
+    }
+}
@@ -10,6 +10,11 @@ import java.io.IOException;
 public class Launcher extends Application {
     @Override
     public void start(Stage stage) throws IOException {
+        // Decode the card images while the menu is showing, so the first game renders at once
+        Thread preload = new Thread(CardImageAtlas::get, "card-image-preload");
+        preload.setDaemon(true);
+        preload.start();
+
         FXMLLoader fxmlLoader = new FXMLLoader(Launcher.class.getResource("MenuUI.fxml"));
         Scene scene = new Scene(fxmlLoader.load(), 1366, 768);
         stage.setTitle("PLAY UNO");
@@ -1,5 +1,6 @@
 package com.example.uno.game.test.uno_game_test;
 
+import com.example.uno.game.test.uno_game_test.Models.Game;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -8,15 +9,22 @@ import javafx.scene.control.Button;
 import javafx.scene.control.TextInputDialog;
 import javafx.stage.Stage;
 
+import java.nio.file.Files;
 import java.util.Optional;
 
 public class MenuController {
+    @FXML private Button resumeButton;
     @FXML private Button singleplayerButton;
     @FXML private Button multiplayerButton;
     @FXML private Button exitButton;
 
     @FXML
     private void initialize() {
+        // Only offered when a game was left unfinished
+        boolean hasSave = Files.exists(GameController.SAVE_FILE);
+        resumeButton.setVisible(hasSave);
+        resumeButton.setManaged(hasSave);
+        resumeButton.setOnAction(e -> handleResume());
         singleplayerButton.setOnAction(e -> handleSingleplayer());
         multiplayerButton.setOnAction(e -> handleMultiplayer());
         exitButton.setOnAction(e -> exitGame());
@@ -24,7 +32,7 @@ public class MenuController {
 
     private void handleSingleplayer() {
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("gameSetupUI.fxml"));
+            FXMLLoader loader = new FXMLLoader(getClass().getResource("GameSetupUI.fxml"));
             Parent root = loader.load();
             Stage stage = (Stage) singleplayerButton.getScene().getWindow();
             stage.getScene().setRoot(root);
@@ -34,6 +42,32 @@ public class MenuController {
         }
     }
 
+    private void handleResume() {
+        Game savedGame = GameController.loadSavedGame();
+        if (savedGame == null) {
+            resumeButton.setVisible(false);
+            resumeButton.setManaged(false);
+            Alert alert = new Alert(Alert.AlertType.WARNING);
+            alert.setTitle("Resume Game");
+            alert.setHeaderText(null);
+            alert.setContentText("The saved game could not be loaded.");
+            alert.showAndWait();
+            return;
+        }
+
+        try {
+            FXMLLoader loader = new FXMLLoader(getClass().getResource("GameUI.fxml"));
+            Parent root = loader.load();
+            GameController gameUIController = loader.getController();
+            gameUIController.resumeGame(savedGame);
+            Stage stage = (Stage) resumeButton.getScene().getWindow();
+            stage.getScene().setRoot(root);
+            stage.setTitle("UNO - Gameplay");
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
     private void exitGame() {
         System.exit(0);
     }
@@ -0,0 +1,76 @@
+package com.example.uno.game.test.uno_game_test;
+
+import com.example.uno.game.test.uno_game_test.Models.Game;
+import com.example.uno.game.test.uno_game_test.Models.Player;
+import javafx.geometry.Pos;
+import javafx.scene.control.Label;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the opponent list in sync with the model, reusing one row per opponent
+ * and only changing the labels whose text or highlight changed.
+ */
+class OpponentListRenderer {
+    private static final String CURRENT_STYLE = "-fx-font-weight: bold; -fx-text-fill: blue;";
+
+    private final VBox container;
+    private final List<Row> rows = new ArrayList<>();
+
+    OpponentListRenderer(VBox container) {
+        this.container = container;
+        container.getChildren().clear();
+    }
+
+    void render(Game game) {
+        List<Player> players = game.getPlayers();
+        int opponents = players.size() - 1;
+
+        if (rows.size() != opponents) {
+            rows.clear();
+            container.getChildren().clear();
+            for (int i = 0; i < opponents; i++) {
+                Row row = new Row();
+                rows.add(row);
+                container.getChildren().add(row.box);
+            }
+        }
+
+        Player current = game.getCurrentPlayer();
+        for (int i = 0; i < opponents; i++) {
+            Player opponent = players.get(i + 1);
+            rows.get(i).update(opponent, opponent == current);
+        }
+    }
+
+    private static class Row {
+        private final Label nameLabel = new Label();
+        private final Label cardCountLabel = new Label();
+        private final HBox box = new HBox(10, nameLabel, cardCountLabel);
+        private String name;
+        private int cardCount = -1;
+        private boolean isCurrent;
+
+        Row() {
+            box.setAlignment(Pos.CENTER);
+        }
+
+        void update(Player opponent, boolean current) {
+            if (!opponent.getName().equals(name)) {
+                name = opponent.getName();
+                nameLabel.setText(name + "'s hand");
+            }
+            if (opponent.getHandSize() != cardCount) {
+                cardCount = opponent.getHandSize();
+                cardCountLabel.setText(cardCount + " cards");
+            }
+            if (current != isCurrent) {
+                isCurrent = current;
+                nameLabel.setStyle(current ? CURRENT_STYLE : "");
+            }
+        }
+    }
+}
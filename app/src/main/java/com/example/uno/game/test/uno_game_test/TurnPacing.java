@@ -0,0 +1,36 @@
+package com.example.uno.game.test.uno_game_test;
+
+/**
+ * How fast computer turns are played in the game screen.
+ * The default can be set with -Duno.turnPacing=normal|fast|instant.
+ */
+public enum TurnPacing {
+    // One second per computer turn, so every move can be followed
+    NORMAL(1000),
+    // Just long enough for each move to show before the next one
+    FAST(250),
+    // All computer turns up to the human's next turn are played at once and shown in one update
+    INSTANT(0);
+
+    private final long delayMillis;
+
+    TurnPacing(long delayMillis) {
+        this.delayMillis = delayMillis;
+    }
+
+    public long getDelayMillis() {
+        return delayMillis;
+    }
+
+    public static TurnPacing fromSystemProperty() {
+        String value = System.getProperty("uno.turnPacing");
+        if (value == null) {
+            return NORMAL;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return NORMAL;
+        }
+    }
+}
@@ -1,8 +1,9 @@
 module com.example.uno.game.test.uno_game_test {
     requires javafx.controls;
     requires javafx.fxml;
+    requires transitive com.example.uno.game.test.uno_game_test.engine;
 
 
     opens com.example.uno.game.test.uno_game_test to javafx.fxml;
     exports com.example.uno.game.test.uno_game_test;
-}
\ No newline at end of file
+}
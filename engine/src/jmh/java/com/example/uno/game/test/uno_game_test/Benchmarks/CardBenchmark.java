@@ -0,0 +1,64 @@
+package com.example.uno.game.test.uno_game_test.Benchmarks;
+
+import com.example.uno.game.test.uno_game_test.Models.Card;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Card.canPlayOn over random (card, top card) pairs.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CardBenchmark {
+    private static final int PAIRS = 1024;
+
+    private final Card[] cards = new Card[PAIRS];
+    private final Card[] tops = new Card[PAIRS];
+    private final byte[] cardIds = new byte[PAIRS];
+    private final byte[] topIds = new byte[PAIRS];
+    private int next;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < PAIRS; i++) {
+            cardIds[i] = (byte) random.nextInt(Card.FACE_COUNT);
+            topIds[i] = (byte) random.nextInt(Card.FACE_COUNT);
+            cards[i] = Card.of(cardIds[i]);
+            tops[i] = Card.of(topIds[i]);
+        }
+    }
+
+    @Benchmark
+    public boolean canPlayOn() {
+        int i = next++ & (PAIRS - 1);
+        return cards[i].canPlayOn(tops[i]);
+    }
+
+    @Benchmark
+    public boolean canPlayOnIds() {
+        int i = next++ & (PAIRS - 1);
+        return Card.canPlayOn(cardIds[i], topIds[i]);
+    }
+
+    @Benchmark
+    public long playableMask() {
+        int i = next++ & (PAIRS - 1);
+        return Card.playableMask(topIds[i], Card.colorOf(topIds[i]));
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.uno.game.test.uno_game_test.Benchmarks;
+
+import com.example.uno.game.test.uno_game_test.Models.Deck;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deck.drawCard on its paths: a plain draw, reshuffling the discard pile in place,
+ * and running dry when every card is out of the piles.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DeckBenchmark {
+    private Deck deck;
+
+    @Setup
+    public void setup() {
+        deck = new Deck(new SplittableRandom(42));
+    }
+
+    // Every card goes back on the discard pile, so the draw pile is refilled by reshuffling it
+    @Benchmark
+    public byte drawAndDiscard() {
+        byte card = deck.drawCardId();
+        deck.discard(card);
+        return card;
+    }
+
+    // Cards are never discarded, so the deck runs dry and is reset every 108 draws
+    @Benchmark
+    public byte drawUntilEmpty() {
+        byte card = deck.drawCardId();
+        if (card == Deck.NO_CARD) {
+            deck.reset();
+        }
+        return card;
+    }
+
+    @Benchmark
+    public Deck reset() {
+        deck.reset();
+        return deck;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.uno.game.test.uno_game_test.Benchmarks;
+
+import com.example.uno.game.test.uno_game_test.Models.Game;
+import com.example.uno.game.test.uno_game_test.Models.GameEngine;
+import com.example.uno.game.test.uno_game_test.Models.Strategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full game playouts with every seat played by the same built-in strategy,
+ * on a reused GameEngine and on a new Game per playout.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameBenchmark {
+    private static final int MAX_TURNS = 10_000;
+
+    @Param({"2", "4", "8"})
+    public int numPlayers;
+
+    @Param({"greedy", "color-majority", "heuristic"})
+    public String strategyName;
+
+    private GameEngine engine;
+    private Strategy strategy;
+    private long seed;
+
+    @Setup
+    public void setup() {
+        engine = new GameEngine(numPlayers);
+        strategy = Strategy.byName(strategyName);
+    }
+
+    @Benchmark
+    public int enginePlayout() {
+        engine.reset(seed++);
+        return playOut(engine, strategy);
+    }
+
+    @Benchmark
+    public int gamePlayout() {
+        Game game = new Game(numPlayers, new SplittableRandom(seed++));
+        return playOut(game.getEngine(), strategy);
+    }
+
+    private static int playOut(GameEngine engine, Strategy strategy) {
+        int turns = 0;
+        while (!engine.isGameOver() && turns < MAX_TURNS) {
+            engine.playTurn(strategy);
+            turns++;
+        }
+        return turns;
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.uno.game.test.uno_game_test.Models;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Player.getPlayableMask and hasValidMove against a rotating set of top cards.
+ * Kept in Models to deal the hands directly, since only the engine may add cards.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PlayerBenchmark {
+    private static final int TOPS = 256;
+
+    @Param({"1", "7", "20", "50"})
+    public int handSize;
+
+    private Player player;
+    private final Card[] tops = new Card[TOPS];
+    private int next;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        player = new Player("Computer", true);
+        for (int i = 0; i < handSize; i++) {
+            player.addCard((byte) random.nextInt(Card.FACE_COUNT));
+        }
+        for (int i = 0; i < TOPS; i++) {
+            // Top cards are never wild, as in a real game
+            tops[i] = Card.of((byte) random.nextInt(Card.WILD_ID));
+        }
+    }
+
+    @Benchmark
+    public long getPlayableMask() {
+        byte top = tops[next++ & (TOPS - 1)].getId();
+        return player.getPlayableMask(top, Card.colorOf(top));
+    }
+
+    @Benchmark
+    public boolean hasValidMove() {
+        return player.hasValidMove(tops[next++ & (TOPS - 1)]);
+    }
+}
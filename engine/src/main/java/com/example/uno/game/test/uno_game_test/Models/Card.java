@@ -0,0 +1,167 @@
+package com.example.uno.game.test.uno_game_test.Models;
+
+/**
+ * Card class for Uno game.
+ * Cards are immutable, so there is exactly one shared instance per face,
+ * addressed by a compact byte ID (see of(byte)).
+ */
+public class Card {
+    // Card IDs: color * 13 + rank for the four colors, then the two wild faces
+    public static final int FACE_COUNT = 54;
+    public static final int RANKS_PER_COLOR = 13;
+    public static final byte WILD_ID = 52;
+    public static final byte DRAW_FOUR_ID = 53;
+    // Bits of both wild faces in a card ID mask
+    public static final long WILD_MASK = (1L << WILD_ID) | (1L << DRAW_FOUR_ID);
+
+    // Ranks 0-9 are the card numbers
+    public static final int RANK_SKIP = 10;
+    public static final int RANK_REVERSE = 11;
+    public static final int RANK_DRAW_TWO = 12;
+    public static final int RANK_WILD = 13;
+    public static final int RANK_DRAW_FOUR = 14;
+
+    private static final Color[] COLORS = Color.values();
+    private static final Type[] TYPES = Type.values();
+    private static final Card[] FACES = new Card[FACE_COUNT];
+    private static final int COLOR_COUNT = 5;
+
+    // Bit (1L << id) is set for every card ID playable on a (top card, current color) pair
+    private static final long[] PLAYABLE = new long[FACE_COUNT * COLOR_COUNT];
+
+    static {
+        for (int id = 0; id < FACE_COUNT; id++) {
+            byte cardId = (byte) id;
+            int rank = rankOf(cardId);
+            if (rank < RANK_SKIP) {
+                FACES[id] = new Card(cardId, COLORS[colorOf(cardId)], Type.NUMBER, rank);
+            } else {
+                FACES[id] = new Card(cardId, COLORS[colorOf(cardId)], TYPES[rank - RANK_SKIP + 1], -1);
+            }
+        }
+
+        for (int top = 0; top < FACE_COUNT; top++) {
+            for (int color = 0; color < COLOR_COUNT; color++) {
+                long mask = 0;
+                for (int id = 0; id < FACE_COUNT; id++) {
+                    if (canPlayOn((byte) id, (byte) top) || colorOf((byte) id) == color) {
+                        mask |= 1L << id;
+                    }
+                }
+                PLAYABLE[top * COLOR_COUNT + color] = mask;
+            }
+        }
+    }
+
+    private final byte id;
+    private final Color color;
+    private final Type type;
+    private final int number; // -1 for action cards
+
+    public enum Color {
+        RED, BLUE, GREEN, YELLOW, WILD
+    }
+
+    public enum Type {
+        NUMBER, SKIP, REVERSE, DRAW_TWO, WILD, DRAW_FOUR
+    }
+
+    private Card(byte id, Color color, Type type, int number) {
+        this.id = id;
+        this.color = color;
+        this.type = type;
+        this.number = number;
+    }
+
+    /**
+     * @return The shared card for the given ID
+     */
+    public static Card of(byte id) {
+        return FACES[id];
+    }
+
+    /**
+     * @return The shared card for the given face
+     */
+    public static Card of(Color color, Type type, int number) {
+        int rank = type == Type.NUMBER ? number : type.ordinal() + RANK_SKIP - 1;
+        return FACES[id(color.ordinal(), rank)];
+    }
+
+    // ID helpers, usable without touching Card instances
+
+    public static byte id(int color, int rank) {
+        if (color == Color.WILD.ordinal()) {
+            return rank == RANK_DRAW_FOUR ? DRAW_FOUR_ID : WILD_ID;
+        }
+        return (byte) (color * RANKS_PER_COLOR + rank);
+    }
+
+    public static int colorOf(byte id) {
+        return id >= WILD_ID ? Color.WILD.ordinal() : id / RANKS_PER_COLOR;
+    }
+
+    public static int rankOf(byte id) {
+        if (id >= WILD_ID) {
+            return id == WILD_ID ? RANK_WILD : RANK_DRAW_FOUR;
+        }
+        return id % RANKS_PER_COLOR;
+    }
+
+    // Same rule as canPlayOn(Card): wilds always, otherwise same color or same number/action
+    public static boolean canPlayOn(byte id, byte topId) {
+        return id >= WILD_ID
+                || colorOf(id) == colorOf(topId)
+                || rankOf(id) == rankOf(topId);
+    }
+
+    /**
+     * @return A mask with bit (1L << id) set for every card ID that may be played
+     * on the given top card while the given color is current
+     */
+    public static long playableMask(byte topId, int currentColor) {
+        return PLAYABLE[topId * COLOR_COUNT + currentColor];
+    }
+
+    // Getters
+    public byte getId() {
+        return id;
+    }
+
+    public Color getColor() {
+        return color;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public int getNumber() {
+        return number;
+    }
+
+    @Override
+    public String toString() {
+        if (type == Type.NUMBER) {
+            return color + " " + number;
+        } else {
+            return color + " " + type;
+        }
+    }
+
+    public String getImagePath() {
+        String colorStr = color.toString().toLowerCase();
+
+        if (type == Type.NUMBER) {
+            return "/Images/Cards/" + colorStr + "_" + number + ".png";
+        } else {
+            return "/Images/Cards/" + colorStr + "_" + type.toString().toLowerCase() + ".png";
+        }
+    }
+
+    // Check if this card can be played on top of another card
+    public boolean canPlayOn(Card other) {
+        // Wild cards, same color or same number/action, looked up in the precomputed table
+        return (playableMask(other.id, other.color.ordinal()) & (1L << id)) != 0;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.uno.game.test.uno_game_test.Models;
+
+/**
+ * Stays on the color the player holds the most of.
+ * Plays a card of the most-held playable color, keeps wilds until nothing else
+ * fits, and names the most-held color when playing a wild.
+ */
+public final class ColorMajorityStrategy implements Strategy {
+    public static final ColorMajorityStrategy INSTANCE = new ColorMajorityStrategy();
+
+    private ColorMajorityStrategy() {
+    }
+
+    @Override
+    public int chooseCard(PlayerView view) {
+        long playable = view.getPlayableMask();
+        if (playable == 0) {
+            return -1;
+        }
+
+        int best = -1;
+        int bestCount = -1;
+        for (long colored = playable & ~Card.WILD_MASK; colored != 0; colored &= colored - 1) {
+            int id = Long.numberOfTrailingZeros(colored);
+            int count = view.getColorCount(Card.colorOf((byte) id));
+            if (count > bestCount) {
+                best = id;
+                bestCount = count;
+            }
+        }
+
+        if (best < 0) {
+            // Only wilds fit; the lowest ID is the plain wild, saving draw fours for last
+            best = Long.numberOfTrailingZeros(playable);
+        }
+        return view.indexOf((byte) best);
+    }
+
+    @Override
+    public int chooseColor(PlayerView view) {
+        return majorityColor(view);
+    }
+
+    /**
+     * @return The color the player holds the most of, or a random one if they only hold wilds
+     */
+    static int majorityColor(PlayerView view) {
+        int best = -1;
+        int bestCount = 0;
+        for (int color = 0; color < Card.Color.WILD.ordinal(); color++) {
+            int count = view.getColorCount(color);
+            if (count > bestCount) {
+                best = color;
+                bestCount = count;
+            }
+        }
+        return best >= 0 ? best : view.getRandom().nextInt(Card.Color.WILD.ordinal());
+    }
+}
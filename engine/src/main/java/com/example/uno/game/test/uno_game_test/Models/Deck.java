@@ -0,0 +1,228 @@
+package com.example.uno.game.test.uno_game_test.Models;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Draw and discard piles, stored as card IDs (see Card.of(byte)).
+ *
+ * Both piles share one fixed array of 108 slots, used as a ring:
+ * the draw pile is [bottom, bottom + size) with its top at the high end, and the
+ * discard pile is [bottom - discardSize, bottom) with its top at the low end.
+ * The slots in between belong to the cards currently held in hands.
+ * Reshuffling the discard pile into the draw pile only moves bottom.
+ */
+public class Deck {
+    public static final int DECK_SIZE = 108;
+    public static final byte NO_CARD = -1;
+
+    // Card IDs of a fresh 108-card deck
+    private static final byte[] STANDARD_DECK = buildStandardDeck();
+
+    private RandomGenerator random;
+    private final byte[] cards = new byte[DECK_SIZE];
+    private int bottom;
+    private int size;
+    private int discardSize;
+    // Whether reshuffles count towards EngineMetrics
+    private boolean instrumented = true;
+
+    public Deck() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * @param random Source for every shuffle of this deck; a seeded generator reproduces the deck order
+     */
+    public Deck(RandomGenerator random) {
+        this.random = random;
+        fill();
+    }
+
+    void setRandom(RandomGenerator random) {
+        this.random = random;
+    }
+
+    void setInstrumented(boolean instrumented) {
+        this.instrumented = instrumented;
+    }
+
+    /**
+     * Puts all 108 cards back into the draw pile and shuffles it, reusing the array.
+     */
+    public void reset() {
+        fill();
+    }
+
+    /**
+     * Shuffles the draw pile.
+     */
+    public void shuffle() {
+        shuffleDrawPile();
+    }
+
+    // Private, so the constructor calls nothing a subclass could override
+    private void fill() {
+        System.arraycopy(STANDARD_DECK, 0, cards, 0, DECK_SIZE);
+        bottom = 0;
+        size = DECK_SIZE;
+        discardSize = 0;
+        shuffleDrawPile();
+    }
+
+    private void shuffleDrawPile() {
+        for (int i = size - 1; i > 0; i--) {
+            int a = slot(bottom + i);
+            int b = slot(bottom + random.nextInt(i + 1));
+            byte tmp = cards[a];
+            cards[a] = cards[b];
+            cards[b] = tmp;
+        }
+    }
+
+    /**
+     * @return The drawn card, or null if every card is in a hand
+     */
+    public Card drawCard() {
+        byte cardId = drawCardId();
+        return cardId == NO_CARD ? null : Card.of(cardId);
+    }
+
+    /**
+     * @return The drawn card ID, or NO_CARD if every card except the top discard is in a hand
+     */
+    public byte drawCardId() {
+        if (size == 0) {
+            if (discardSize <= 1) {
+                // Nothing left to reshuffle: the deck never grows past 108 cards
+                if (EngineMetrics.ENABLED && instrumented) {
+                    EngineMetrics.EMPTY_DRAWS.increment();
+                }
+                return NO_CARD;
+            }
+            if (EngineMetrics.ENABLED && instrumented) {
+                EngineMetrics.RESHUFFLES.increment();
+            }
+
+            // Use the discard pile (except top card) as the new deck, in place
+            bottom = slot(bottom - discardSize + 1);
+            size = discardSize - 1;
+            discardSize = 1;
+            shuffle();
+        }
+
+        size--;
+        return cards[slot(bottom + size)];
+    }
+
+    public void discard(Card card) {
+        discard(card.getId());
+    }
+
+    public void discard(byte cardId) {
+        if (size + discardSize == DECK_SIZE) {
+            throw new IllegalStateException("Deck already holds all " + DECK_SIZE + " cards");
+        }
+        discardSize++;
+        cards[slot(bottom - discardSize)] = cardId;
+    }
+
+    public Card getTopDiscard() {
+        if (discardSize == 0) {
+            return null;
+        }
+        return Card.of(getTopDiscardId());
+    }
+
+    public byte getTopDiscardId() {
+        return cards[slot(bottom - discardSize)];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int discardSize() {
+        return discardSize;
+    }
+
+    /**
+     * Replaces both piles with the first discardSize + drawSize cards of source:
+     * the discard pile from its top down, then the draw pile from its bottom up.
+     */
+    void setPiles(byte[] source, int discardSize, int drawSize) {
+        if (discardSize + drawSize > DECK_SIZE) {
+            throw new IllegalArgumentException("Piles hold more than " + DECK_SIZE + " cards");
+        }
+        System.arraycopy(source, 0, cards, 0, discardSize + drawSize);
+        bottom = discardSize;
+        size = drawSize;
+        this.discardSize = discardSize;
+    }
+
+    void saveTo(GameState state) {
+        System.arraycopy(cards, 0, state.deckCards, 0, DECK_SIZE);
+        state.deckBottom = bottom;
+        state.drawSize = size;
+        state.discardSize = discardSize;
+    }
+
+    void restoreFrom(GameState state) {
+        System.arraycopy(state.deckCards, 0, cards, 0, DECK_SIZE);
+        bottom = state.deckBottom;
+        size = state.drawSize;
+        discardSize = state.discardSize;
+    }
+
+    void copyInto(Deck target) {
+        System.arraycopy(cards, 0, target.cards, 0, DECK_SIZE);
+        target.bottom = bottom;
+        target.size = size;
+        target.discardSize = discardSize;
+    }
+
+    /**
+     * @return The number of copies of the card in a full deck
+     */
+    static int copiesOf(byte cardId) {
+        if (Card.colorOf(cardId) == Card.Color.WILD.ordinal()) {
+            return 4;
+        }
+        return Card.rankOf(cardId) == 0 ? 1 : 2;
+    }
+
+    private static int slot(int position) {
+        if (position < 0) {
+            return position + DECK_SIZE;
+        }
+        return position >= DECK_SIZE ? position - DECK_SIZE : position;
+    }
+
+    private static byte[] buildStandardDeck() {
+        byte[] deck = new byte[DECK_SIZE];
+        int n = 0;
+        for (int color = 0; color < Card.Color.WILD.ordinal(); color++) {
+            // Each color has one 0 card
+            deck[n++] = Card.id(color, 0);
+
+            // Each color has two of each number 1-9
+            for (int number = 1; number <= 9; number++) {
+                deck[n++] = Card.id(color, number);
+                deck[n++] = Card.id(color, number);
+            }
+
+            // Each color has two of each action card
+            for (int rank = Card.RANK_SKIP; rank <= Card.RANK_DRAW_TWO; rank++) {
+                deck[n++] = Card.id(color, rank);
+                deck[n++] = Card.id(color, rank);
+            }
+        }
+
+        // Add wild cards (4 of each)
+        for (int i = 0; i < 4; i++) {
+            deck[n++] = Card.WILD_ID;
+            deck[n++] = Card.DRAW_FOUR_ID;
+        }
+        return deck;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.uno.game.test.uno_game_test.Models;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for one GameEngine.drawCard or drawCardForPlayer, recorded while EngineMetrics.ENABLED.
+ */
+@Name("uno.DrawCard")
+@Label("Draw Card")
+@Category({"Uno", "Engine"})
+@Description("Cards drawn by the current player, including penalties they took")
+final class DrawCardEvent extends Event {
+    @Label("Seat")
+    int seat;
+
+    @Label("Cards Drawn")
+    int cards;
+
+    @Label("Passed")
+    @Description("Whether the draw ended the player's turn")
+    boolean passed;
+}
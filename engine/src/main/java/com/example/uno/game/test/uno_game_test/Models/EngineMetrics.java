@@ -0,0 +1,93 @@
+package com.example.uno.game.test.uno_game_test.Models;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and histograms of what every GameEngine in the process is doing, plus the JFR events
+ * PlayCardEvent and DrawCardEvent. Off unless the JVM runs with -Duno.metrics=true; ENABLED is a
+ * constant, so while it is off the JIT drops the instrumentation from the engine altogether.
+ * Engines that only look ahead, such as those inside IsmctsStrategy, are left out (see
+ * GameEngine.setInstrumented). Counters are exact, while the latency histograms sample one move
+ * in TIMING_SAMPLE. Read them with snapshot(), which any thread may call at any time.
+ */
+public final class EngineMetrics {
+    public static final boolean ENABLED = Boolean.getBoolean("uno.metrics");
+    // Each engine times one in this many moves for the latency histograms; a power of two
+    static final int TIMING_SAMPLE = 16;
+
+    // Games with at least one move, and games won
+    static final LongAdder GAMES_STARTED = new LongAdder();
+    static final LongAdder GAMES_FINISHED = new LongAdder();
+    static final LongAdder TURNS = new LongAdder();
+    static final LongAdder CARDS_PLAYED = new LongAdder();
+    static final LongAdder CARDS_DRAWN = new LongAdder();
+    // Discard piles shuffled back into the draw pile
+    static final LongAdder RESHUFFLES = new LongAdder();
+    // Wild first cards put back into the deck while dealing
+    static final LongAdder FIRST_CARD_REDRAWS = new LongAdder();
+    // Draws that found every card already in a hand
+    static final LongAdder EMPTY_DRAWS = new LongAdder();
+    static final Histogram PLAY_CARD_NANOS = new Histogram();
+    // Time strategies take to choose a move in playTurn
+    static final Histogram DECISION_NANOS = new Histogram();
+    // Hand size of each player as their turn starts
+    static final Histogram HAND_SIZES = new Histogram();
+
+    private EngineMetrics() {
+    }
+
+    public static Snapshot snapshot() {
+        return new Snapshot(System.nanoTime(),
+                GAMES_STARTED.sum(), GAMES_FINISHED.sum(), TURNS.sum(),
+                CARDS_PLAYED.sum(), CARDS_DRAWN.sum(),
+                RESHUFFLES.sum(), FIRST_CARD_REDRAWS.sum(), EMPTY_DRAWS.sum(),
+                PLAY_CARD_NANOS.snapshot(), DECISION_NANOS.snapshot(), HAND_SIZES.snapshot());
+    }
+
+    /**
+     * Sets everything back to zero, for example between benchmark runs.
+     * Moves made meanwhile may be partly counted.
+     */
+    public static void reset() {
+        for (LongAdder counter : new LongAdder[]{GAMES_STARTED, GAMES_FINISHED, TURNS, CARDS_PLAYED,
+                CARDS_DRAWN, RESHUFFLES, FIRST_CARD_REDRAWS, EMPTY_DRAWS}) {
+            counter.reset();
+        }
+        PLAY_CARD_NANOS.reset();
+        DECISION_NANOS.reset();
+        HAND_SIZES.reset();
+    }
+
+    /**
+     * The metrics at one moment. Counters only grow, so rates come from two snapshots.
+     * @param nanoTime System.nanoTime() when the snapshot was taken
+     */
+    public record Snapshot(long nanoTime, long gamesStarted, long gamesFinished, long turns,
+                           long cardsPlayed, long cardsDrawn, long reshuffles, long firstCardRedraws,
+                           long emptyDraws, Histogram.Snapshot playCardNanos,
+                           Histogram.Snapshot decisionNanos, Histogram.Snapshot handSizes) {
+
+        /**
+         * @return Turns per second between an earlier snapshot and this one
+         */
+        public double turnsPerSecond(Snapshot earlier) {
+            long nanos = nanoTime - earlier.nanoTime;
+            return nanos <= 0 ? 0 : (turns - earlier.turns) * 1e9 / nanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Games: %d started, %d finished; turns: %d; cards: %d played, %d drawn%n"
+                            + "Deck: %d reshuffles, %d first card redraws, %d empty draws%n"
+                            + "playCard: p50 %d ns, p99 %d ns, max %d ns%n"
+                            + "Decisions: p50 %d ns, p99 %d ns, max %d ns%n"
+                            + "Hand size at turn start: mean %.1f, p50 %d, p99 %d, max %d",
+                    gamesStarted, gamesFinished, turns, cardsPlayed, cardsDrawn,
+                    reshuffles, firstCardRedraws, emptyDraws,
+                    playCardNanos.getPercentile(0.5), playCardNanos.getPercentile(0.99), playCardNanos.getMax(),
+                    decisionNanos.getPercentile(0.5), decisionNanos.getPercentile(0.99), decisionNanos.getMax(),
+                    handSizes.getMean(), handSizes.getPercentile(0.5), handSizes.getPercentile(0.99),
+                    handSizes.getMax());
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.example.uno.game.test.uno_game_test.Models;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Game used by the UI. The rules and all card state live in GameEngine;
+ * this class exposes them as shared Card and Player objects.
+ */
+public class Game {
+    private static final Card.Color[] COLORS = Card.Color.values();
+
+    private final GameEngine engine;
+    private final List<Player> players;
+
+    public Game(int numPlayers) {
+        this(numPlayers, new SplittableRandom());
+    }
+
+    /**
+     * @param random Source for shuffles and computer color choices; a seeded generator reproduces the game
+     */
+    public Game(int numPlayers, RandomGenerator random) {
+        this(new GameEngine(numPlayers, random));
+    }
+
+    /**
+     * Starts a game from a seed, so it can be recorded and replayed (see startRecording).
+     */
+    public Game(int numPlayers, long seed) {
+        this(new GameEngine(numPlayers, seed));
+    }
+
+    /**
+     * Starts a game from a seed with the given house rules.
+     */
+    public Game(int numPlayers, long seed, RuleSet rules) {
+        this(new GameEngine(numPlayers, seed, rules));
+    }
+
+    public Game(int numPlayers, RuleSet rules) {
+        this(new GameEngine(numPlayers, new SplittableRandom(), rules));
+    }
+
+    private Game(GameEngine engine) {
+        this.engine = engine;
+        int numPlayers = engine.getNumPlayers();
+        players = new ArrayList<>(numPlayers);
+        for (int i = 0; i < numPlayers; i++) {
+            players.add(engine.getPlayer(i));
+        }
+    }
+
+    public GameEngine getEngine() {
+        return engine;
+    }
+
+    public RuleSet getRules() {
+        return engine.getRules();
+    }
+
+    public boolean isClockwise() {
+        return engine.isClockwise();
+    }
+
+    public Player getCurrentPlayer() {
+        return players.get(engine.getCurrentPlayerIndex());
+    }
+
+    public Card getTopCard() {
+        return Card.of(engine.getTopCard());
+    }
+
+    public Card.Color getCurrentColor() {
+        return COLORS[engine.getCurrentColor()];
+    }
+
+    public void setCurrentColor(Card.Color color) {
+        engine.setCurrentColor(color.ordinal());
+    }
+
+    /**
+     * Picks one of the four colors at random, for computer players choosing a wild color.
+     */
+    public Card.Color chooseRandomColor() {
+        return COLORS[engine.chooseRandomColor()];
+    }
+
+    public boolean playCard(int cardIndex) {
+        return engine.playCard(cardIndex);
+    }
+
+    /**
+     * Plays a card, first naming wildColor if it is a wild. A null color keeps the current one.
+     */
+    public boolean playCard(int cardIndex, Card.Color wildColor) {
+        return engine.playCard(cardIndex, wildColor == null ? -1 : wildColor.ordinal());
+    }
+
+    /**
+     * Plays a card out of turn on an identical top card, when the rules allow jump-ins.
+     * Play continues from the player who jumped in.
+     * @return false if the player may not jump in with that card
+     */
+    public boolean jumpIn(Player player, int cardIndex) {
+        return engine.jumpIn(players.indexOf(player), cardIndex);
+    }
+
+    public boolean canJumpIn(Player player, int cardIndex) {
+        return engine.canJumpIn(players.indexOf(player), cardIndex);
+    }
+
+    /**
+     * @return The penalty cards the current player draws unless they stack on them or challenge
+     */
+    public int getPendingDraw() {
+        return engine.getPendingDraw();
+    }
+
+    public boolean canChallenge() {
+        return engine.canChallenge();
+    }
+
+    /**
+     * Challenges the wild draw four played on the current player, when the rules allow it.
+     * @return false if there is nothing to challenge
+     */
+    public boolean challenge() {
+        return engine.challenge();
+    }
+
+    /**
+     * Draws a card for the current player WITHOUT advancing to the next player.
+     * This allows players to draw multiple cards on their turn.
+     * @return The drawn card, or null if every card is already in a hand
+     */
+    public Card drawCard() {
+        return toCard(engine.drawCard());
+    }
+
+    /**
+     * Legacy method that draws a card and advances to the next player.
+     * Used by computer players who always draw one card then end turn.
+     * A player facing a penalty draws all of it, and under the draw until playable rule
+     * a player with nothing to play draws until they can play and keeps the turn.
+     * @return The last card drawn, or null if a penalty was taken or every card is already in a hand
+     */
+    public Card drawCardForPlayer() {
+        return toCard(engine.drawCardForPlayer());
+    }
+
+    /**
+     * Plays the current player's turn with their strategy.
+     * @return The card played, or null if the player drew or challenged instead
+     */
+    public Card playComputerTurn() {
+        return toCard(engine.playTurn(getCurrentPlayer().getStrategy()));
+    }
+
+    /**
+     * Plays a move chosen ahead of time, such as one computed on a background thread.
+     * @param cardIndex The hand index to play, -1 to draw and pass, or Strategy.CHALLENGE
+     * @param wildColor The color to name if the card is a wild
+     * @return The card played, or null if the player drew or challenged instead
+     */
+    public Card applyMove(int cardIndex, Card.Color wildColor) {
+        return toCard(engine.applyMove(cardIndex, wildColor == null ? -1 : wildColor.ordinal()));
+    }
+
+    public void nextPlayer() {
+        engine.nextPlayer();
+    }
+
+    /**
+     * Keeps the state before each of the latest moves so they can be taken back with undo().
+     */
+    public void setUndoCapacity(int capacity) {
+        engine.setUndoCapacity(capacity);
+    }
+
+    public boolean canUndo() {
+        return engine.canUndo();
+    }
+
+    /**
+     * Takes back the most recent move. Listeners are not notified.
+     * @return false if there is no move left to take back
+     */
+    public boolean undo() {
+        return engine.undo();
+    }
+
+    /**
+     * Records every move from now on to writer. The game must be seeded and not started yet.
+     */
+    public void startRecording(GameRecordWriter writer) {
+        engine.startRecording(writer);
+    }
+
+    public void stopRecording() {
+        engine.stopRecording();
+    }
+
+    public boolean isGameOver() {
+        return engine.isGameOver();
+    }
+
+    public Player getWinner() {
+        int winner = engine.getWinner();
+        return winner < 0 ? null : players.get(winner);
+    }
+
+    public void addListener(GameListener listener) {
+        engine.addListener(listener);
+    }
+
+    public void removeListener(GameListener listener) {
+        engine.removeListener(listener);
+    }
+
+    public List<Player> getPlayers() {
+        return players;
+    }
+
+    private static Card toCard(byte cardId) {
+        return cardId == Deck.NO_CARD ? null : Card.of(cardId);
+    }
+}
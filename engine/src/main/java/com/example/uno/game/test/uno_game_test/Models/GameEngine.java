@@ -0,0 +1,1135 @@
+package com.example.uno.game.test.uno_game_test.Models;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Headless Uno engine used for bulk simulation.
+ * Plays by the same rules as Game, but works on card IDs (see Card.of(byte))
+ * and reuses its deck and hands across games via reset(seed).
+ * The house rules (see RuleSet) are fixed at construction and resolved into card masks,
+ * so a standard game never pays for the variants.
+ */
+public final class GameEngine {
+    public static final int INITIAL_HAND_SIZE = 7;
+    public static final int MIN_PLAYERS = 2;
+    // The most players the deck can deal a full hand to with a card left to start the discard pile
+    public static final int MAX_DEALT_PLAYERS = (Deck.DECK_SIZE - 1) / INITIAL_HAND_SIZE;
+    // Seats are tracked as bits of a long, so no table can ever be larger than this
+    public static final int MAX_PLAYERS = 64;
+
+    private static final int COLOR_WILD = Card.Color.WILD.ordinal();
+    private static final long DRAW_TWO_MASK = drawTwoMask();
+    private static final long DRAW_FOUR_MASK = 1L << Card.DRAW_FOUR_ID;
+    private static final long COLORED_MASK = (1L << Card.WILD_ID) - 1;
+    private static final GameListener[] NO_LISTENERS = new GameListener[0];
+
+    private final Deck deck;
+    private final Player[] players;
+
+    private final RuleSet rules;
+    // Draw cards whose penalty waits for the victim to stack, challenge or take it
+    private final long deferredPenaltyMask;
+    // Cards that may be played on a pending draw two or wild draw four penalty
+    private final long stackOnDrawTwoMask;
+    private final long stackOnDrawFourMask;
+    // Cards that may be played out of turn on an identical top card
+    private final long jumpInMask;
+    private final long challengeMask;
+    // Most cards a player with nothing to play draws in one move
+    private final int drawLimit;
+
+    // Computer choices draw from their own generator, so they never change the order of the deck
+    private RandomGenerator random;
+    private long seed;
+    private boolean seeded;
+
+    private int currentPlayerIndex;
+    private boolean clockwise;
+    private int currentColor;
+    // Penalty cards waiting for the current player, who may stack on them or challenge
+    private int pendingDraw;
+    // The seat whose wild draw four the current player may challenge, or -1,
+    // and whether that seat held a card of the color that was current when it played it
+    private int challengeSeat;
+    private boolean bluffed;
+
+    // Kept up to date on every hand change, so status queries never scan the players
+    private int winner;
+    private long unoMask;
+    private GameListener[] listeners = NO_LISTENERS;
+    private final PlayerView currentPlayerView = new CurrentPlayerView();
+    // States before the latest moves, or null while undo is off
+    private UndoLog undoLog;
+    private int movesSinceReset;
+    private GameRecordWriter recorder;
+    // Whether moves count towards EngineMetrics
+    private boolean instrumented = true;
+    // Counts moves so that only one in EngineMetrics.TIMING_SAMPLE is timed
+    private int untimedMoves;
+    // Scratch space for determinize
+    private final byte[] unseenCards = new byte[Deck.DECK_SIZE];
+    private final byte[] unseenCounts = new byte[Card.FACE_COUNT];
+
+    public GameEngine(int numPlayers) {
+        this(numPlayers, new SplittableRandom());
+    }
+
+    /**
+     * Starts the same game as reset(seed), which can be recorded and replayed.
+     */
+    public GameEngine(int numPlayers, long seed) {
+        this(numPlayers, seed, RuleSet.STANDARD);
+    }
+
+    public GameEngine(int numPlayers, long seed, RuleSet rules) {
+        this(numPlayers, new SplittableRandom(seed), rules, false);
+        reset(seed);
+    }
+
+    public GameEngine(int numPlayers, RandomGenerator random) {
+        this(numPlayers, random, RuleSet.STANDARD);
+    }
+
+    /**
+     * @param random Source for shuffles and computer color choices. Each engine
+     *               should get its own generator so simulation threads never share one.
+     */
+    public GameEngine(int numPlayers, RandomGenerator random, RuleSet rules) {
+        this(numPlayers, random, rules, true);
+    }
+
+    // Deals unless the caller is about to deal itself
+    private GameEngine(int numPlayers, RandomGenerator random, RuleSet rules, boolean deal) {
+        if (numPlayers < MIN_PLAYERS || numPlayers > MAX_DEALT_PLAYERS) {
+            throw new IllegalArgumentException("Number of players must be between " + MIN_PLAYERS
+                    + " and " + MAX_DEALT_PLAYERS);
+        }
+        this.rules = rules;
+        long drawCards = DRAW_TWO_MASK | DRAW_FOUR_MASK;
+        challengeMask = rules.challengeDrawFour() ? DRAW_FOUR_MASK : 0;
+        deferredPenaltyMask = rules.stacking() ? drawCards : challengeMask;
+        stackOnDrawTwoMask = rules.stacking() ? drawCards : 0;
+        stackOnDrawFourMask = rules.stacking() ? DRAW_FOUR_MASK : 0;
+        jumpInMask = rules.jumpIn() ? COLORED_MASK : 0;
+        drawLimit = rules.drawUntilPlayable() ? Deck.DECK_SIZE : 1;
+
+        deck = new Deck(random);
+        this.random = new SplittableRandom(random.nextLong());
+        players = new Player[numPlayers];
+
+        // Create players (1 human, rest computer)
+        players[0] = new Player("You", false);
+        for (int i = 1; i < numPlayers; i++) {
+            players[i] = new Player("Computer " + i, true);
+        }
+
+        if (deal) {
+            reset();
+        }
+    }
+
+    /**
+     * Starts a new game with the given seed, reusing the deck and hands.
+     * The same seed always plays out the same game.
+     */
+    public void reset(long seed) {
+        reset(new SplittableRandom(seed));
+        this.seed = seed;
+        seeded = true;
+    }
+
+    /**
+     * Starts a new game that draws all its randomness from the given generator.
+     */
+    public void reset(RandomGenerator random) {
+        deck.setRandom(random);
+        this.random = new SplittableRandom(random.nextLong());
+        seeded = false;
+        reset();
+    }
+
+    /**
+     * Starts a new game, continuing from the current random state.
+     */
+    public void reset() {
+        // A recording covers a single game
+        recorder = null;
+        movesSinceReset = 0;
+        deck.reset();
+        for (Player player : players) {
+            player.clearHand();
+        }
+
+        // Deal initial cards (7 per player)
+        for (int i = 0; i < INITIAL_HAND_SIZE; i++) {
+            for (Player player : players) {
+                player.addCard(deck.drawCardId());
+            }
+        }
+        winner = -1;
+        unoMask = 0;
+        pendingDraw = 0;
+        challengeSeat = -1;
+        bluffed = false;
+        if (undoLog != null) {
+            undoLog.clear();
+        }
+
+        currentPlayerIndex = 0;
+        clockwise = true;
+
+        // Place first card from deck
+        byte firstCard = deck.drawCardId();
+        while (Card.colorOf(firstCard) == COLOR_WILD) {
+            // First card cannot be a wild card, put it back and draw another
+            if (metered()) {
+                EngineMetrics.FIRST_CARD_REDRAWS.increment();
+            }
+            deck.discard(firstCard);
+            if (deck.size() == 0) {
+                // Only wilds were left after dealing the largest tables, so no first card will ever come up
+                reset();
+                return;
+            }
+            deck.shuffle();
+            firstCard = deck.drawCardId();
+        }
+
+        deck.discard(firstCard);
+        currentColor = Card.colorOf(firstCard);
+    }
+
+    /**
+     * Saves the whole game into state, which must be for the same number of players.
+     */
+    public void saveState(GameState state) {
+        if (state.getNumPlayers() != players.length) {
+            throw new IllegalArgumentException("State is for " + state.getNumPlayers()
+                    + " players, engine has " + players.length);
+        }
+        deck.saveTo(state);
+        int offset = 0;
+        for (int i = 0; i < players.length; i++) {
+            Player player = players[i];
+            int size = player.getHandSize();
+            for (int j = 0; j < size; j++) {
+                state.handCards[offset + j] = player.getCardId(j);
+            }
+            state.handSizes[i] = size;
+            offset += size;
+        }
+        state.currentPlayer = currentPlayerIndex;
+        state.clockwise = clockwise;
+        state.currentColor = currentColor;
+        state.winner = winner;
+        state.unoMask = unoMask;
+        state.pendingDraw = pendingDraw;
+        state.challengeSeat = challengeSeat;
+        state.bluffed = bluffed;
+    }
+
+    /**
+     * Puts the game back into a state saved by saveState. Listeners are not notified,
+     * so views must redraw from the engine afterwards.
+     */
+    public void restoreState(GameState state) {
+        if (state.getNumPlayers() != players.length) {
+            throw new IllegalArgumentException("State is for " + state.getNumPlayers()
+                    + " players, engine has " + players.length);
+        }
+        deck.restoreFrom(state);
+        int offset = 0;
+        for (int i = 0; i < players.length; i++) {
+            players[i].setHand(state.handCards, offset, state.handSizes[i]);
+            offset += state.handSizes[i];
+        }
+        currentPlayerIndex = state.currentPlayer;
+        clockwise = state.clockwise;
+        currentColor = state.currentColor;
+        winner = state.winner;
+        unoMask = state.unoMask;
+        pendingDraw = state.pendingDraw;
+        challengeSeat = state.challengeSeat;
+        bluffed = state.bluffed;
+    }
+
+    /**
+     * Copies the game (not the listeners, random source or undo history) into an engine
+     * with the same number of players and rules, for example to look ahead without touching this one.
+     */
+    public void copyInto(GameEngine target) {
+        if (target.players.length != players.length) {
+            throw new IllegalArgumentException("Engines have different numbers of players");
+        }
+        if (!target.rules.equals(rules)) {
+            throw new IllegalArgumentException("Engines play by different rules");
+        }
+        deck.copyInto(target.deck);
+        for (int i = 0; i < players.length; i++) {
+            players[i].copyHandInto(target.players[i]);
+        }
+        target.currentPlayerIndex = currentPlayerIndex;
+        target.clockwise = clockwise;
+        target.currentColor = currentColor;
+        target.winner = winner;
+        target.unoMask = unoMask;
+        target.pendingDraw = pendingDraw;
+        target.challengeSeat = challengeSeat;
+        target.bluffed = bluffed;
+    }
+
+    /**
+     * Starts recording the state before every playCard, drawCard, drawCardForPlayer
+     * and nextPlayer, keeping the latest capacity moves for undo().
+     * Passing 0 turns recording off.
+     */
+    public void setUndoCapacity(int capacity) {
+        undoLog = capacity > 0 ? new UndoLog(players.length, capacity) : null;
+    }
+
+    public boolean canUndo() {
+        return undoLog != null && undoLog.size() > 0;
+    }
+
+    /**
+     * Takes back the most recent recorded move. Listeners are not notified.
+     * @return false if there is no recorded move left
+     */
+    public boolean undo() {
+        GameState state = undoLog == null ? null : undoLog.pop();
+        if (state == null) {
+            return false;
+        }
+        restoreState(state);
+        if (recorder != null) {
+            recorder.undo();
+        }
+        return true;
+    }
+
+    /**
+     * Records every later move of this game to writer, starting with the header.
+     * The game must have been started from a seed and have no moves yet.
+     * Recording stops at the next reset.
+     */
+    public void startRecording(GameRecordWriter writer) {
+        if (!seeded || movesSinceReset > 0) {
+            throw new IllegalStateException("Only a seeded game can be recorded, from its first move");
+        }
+        writer.writeHeader(seed, players.length, rules.toFlags(), undoLog == null ? 0 : undoLog.capacity());
+        recorder = writer;
+    }
+
+    public void stopRecording() {
+        recorder = null;
+    }
+
+    /**
+     * @return Whether the game was started by reset(seed) or the seeded constructor
+     */
+    public boolean hasSeed() {
+        return seeded;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Sets whether this engine's moves count towards EngineMetrics. Engines that only
+     * look ahead, such as a search strategy's, turn this off so they do not inflate the numbers.
+     */
+    public void setInstrumented(boolean instrumented) {
+        this.instrumented = instrumented;
+        deck.setInstrumented(instrumented);
+    }
+
+    // Constant false unless metrics are on, so the JIT removes whatever it guards
+    private boolean metered() {
+        return EngineMetrics.ENABLED && instrumented;
+    }
+
+    // Whether to time this move; reading the clock costs about as much as a move
+    private boolean timed() {
+        return metered() && (++untimedMoves & (EngineMetrics.TIMING_SAMPLE - 1)) == 0;
+    }
+
+    // Called at the start of every move, before anything changes
+    private void beginMove() {
+        if (movesSinceReset == 0 && metered()) {
+            EngineMetrics.GAMES_STARTED.increment();
+        }
+        movesSinceReset++;
+        if (undoLog != null) {
+            saveState(undoLog.push());
+        }
+    }
+
+    /**
+     * Replaces the game with one that looks the same from view's seat: the seat's own hand,
+     * the top card, the current color, the direction, any pending penalty, and every hand
+     * and pile size match, while all cards the seat cannot see are dealt at random.
+     * A wild draw four the seat may challenge is assumed to have been played fairly.
+     * Used by search strategies to sample the hidden information; allocates nothing.
+     */
+    void determinize(PlayerView view, RandomGenerator random) {
+        if (view.getNumPlayers() != players.length) {
+            throw new IllegalArgumentException("View has " + view.getNumPlayers()
+                    + " players, engine has " + players.length);
+        }
+        this.random = random;
+        deck.setRandom(random);
+
+        // Everything except the seat's own hand and the top card is unseen
+        int seat = view.getSeat();
+        byte top = view.getTopCard();
+        for (int id = 0; id < Card.FACE_COUNT; id++) {
+            unseenCounts[id] = (byte) Deck.copiesOf((byte) id);
+        }
+        unseenCounts[top]--;
+        Player viewer = players[seat];
+        viewer.clearHand();
+        for (int i = 0; i < view.getHandSize(); i++) {
+            byte card = view.getCard(i);
+            unseenCounts[card]--;
+            viewer.addCard(card);
+        }
+
+        // unseenCards[0] is the top card, followed by the unseen cards in random order
+        unseenCards[0] = top;
+        int unseen = 1;
+        for (int id = 0; id < Card.FACE_COUNT; id++) {
+            for (int copy = 0; copy < unseenCounts[id]; copy++) {
+                unseenCards[unseen++] = (byte) id;
+            }
+        }
+        for (int i = unseen - 1; i > 1; i--) {
+            int j = 1 + random.nextInt(i);
+            byte tmp = unseenCards[i];
+            unseenCards[i] = unseenCards[j];
+            unseenCards[j] = tmp;
+        }
+
+        // Deal the other hands from the end, then the rest is [discard pile][draw pile]
+        for (int player = 0; player < players.length; player++) {
+            if (player != seat) {
+                players[player].clearHand();
+                for (int i = 0; i < view.getHandSize(player); i++) {
+                    players[player].addCard(unseenCards[--unseen]);
+                }
+            }
+        }
+        int drawSize = view.getDrawPileSize();
+        int discardSize = unseen - drawSize;
+        if (discardSize < 1) {
+            throw new IllegalArgumentException("View holds more cards than the deck");
+        }
+        deck.setPiles(unseenCards, discardSize, drawSize);
+
+        currentPlayerIndex = seat;
+        clockwise = view.isClockwise();
+        currentColor = view.getCurrentColor();
+        pendingDraw = view.getPendingDraw();
+        challengeSeat = view.canChallenge() ? previousSeat(seat) : -1;
+        bluffed = false;
+        winner = -1;
+        unoMask = 0;
+        for (int player = 0; player < players.length; player++) {
+            int size = players[player].getHandSize();
+            if (size == 1) {
+                unoMask |= 1L << player;
+            } else if (size == 0 && winner < 0) {
+                winner = player;
+            }
+        }
+    }
+
+    // Getters
+
+    public int getNumPlayers() {
+        return players.length;
+    }
+
+    public RuleSet getRules() {
+        return rules;
+    }
+
+    public RandomGenerator getRandom() {
+        return random;
+    }
+
+    /**
+     * Picks one of the four colors at random, for computer players choosing a wild color.
+     */
+    public int chooseRandomColor() {
+        return random.nextInt(COLOR_WILD);
+    }
+
+    public Player getPlayer(int index) {
+        return players[index];
+    }
+
+    public int getCurrentPlayerIndex() {
+        return currentPlayerIndex;
+    }
+
+    public boolean isClockwise() {
+        return clockwise;
+    }
+
+    public int getCurrentColor() {
+        return currentColor;
+    }
+
+    public void setCurrentColor(int color) {
+        if (color != currentColor) {
+            currentColor = color;
+            for (GameListener listener : listeners) {
+                listener.onColorChanged(color);
+            }
+        }
+    }
+
+    public byte getTopCard() {
+        return deck.getTopDiscardId();
+    }
+
+    public int getHandSize(int player) {
+        return players[player].getHandSize();
+    }
+
+    public byte getCard(int player, int index) {
+        return players[player].getCardId(index);
+    }
+
+    public int getDrawPileSize() {
+        return deck.size();
+    }
+
+    /**
+     * @return The penalty cards the current player draws unless they stack on them or challenge
+     */
+    public int getPendingDraw() {
+        return pendingDraw;
+    }
+
+    /**
+     * Whether the current player may challenge the wild draw four played on them.
+     */
+    public boolean canChallenge() {
+        return challengeSeat >= 0;
+    }
+
+    /**
+     * Whether the current player may play the card at the given hand index.
+     * An index outside the hand is never playable.
+     */
+    public boolean canPlay(int cardIndex) {
+        Player player = players[currentPlayerIndex];
+        if (cardIndex < 0 || cardIndex >= player.getHandSize()) {
+            return false;
+        }
+        byte card = player.getCardId(cardIndex);
+        return (playableMask() & (1L << card)) != 0;
+    }
+
+    /**
+     * Whether the current player has any card they may play.
+     */
+    public boolean hasValidMove() {
+        return (players[currentPlayerIndex].getFaceMask() & playableMask()) != 0;
+    }
+
+    /**
+     * Whether the given seat may jump in with the card at the given hand index
+     * (see RuleSet.jumpIn). The current player plays their turn as usual instead.
+     */
+    public boolean canJumpIn(int seat, int cardIndex) {
+        if (seat == currentPlayerIndex || seat < 0 || seat >= players.length
+                || winner >= 0 || pendingDraw > 0
+                || cardIndex < 0 || cardIndex >= players[seat].getHandSize()) {
+            return false;
+        }
+        byte card = players[seat].getCardId(cardIndex);
+        return card == deck.getTopDiscardId() && (jumpInMask & (1L << card)) != 0;
+    }
+
+    // The cards that may be played now, whoever holds them
+    private long playableMask() {
+        byte top = deck.getTopDiscardId();
+        if (pendingDraw == 0) {
+            return Card.playableMask(top, currentColor);
+        }
+        return Card.rankOf(top) == Card.RANK_DRAW_TWO ? stackOnDrawTwoMask : stackOnDrawFourMask;
+    }
+
+    /**
+     * @return A view of the game from the current player's seat. The same object is
+     *         returned every time and always follows the current player.
+     */
+    public PlayerView getCurrentPlayerView() {
+        return currentPlayerView;
+    }
+
+    /**
+     * Lets the strategy choose the current player's move and plays it.
+     * @return The card played, or Deck.NO_CARD if the player drew or challenged instead
+     */
+    public byte playTurn(Strategy strategy) {
+        boolean timed = timed();
+        long start = timed ? System.nanoTime() : 0;
+        int cardIndex = strategy.chooseCard(currentPlayerView);
+        int color = -1;
+        if (cardIndex >= 0 && cardIndex < players[currentPlayerIndex].getHandSize()
+                && Card.colorOf(players[currentPlayerIndex].getCardId(cardIndex)) == COLOR_WILD) {
+            color = strategy.chooseColor(currentPlayerView);
+        }
+        if (timed) {
+            EngineMetrics.DECISION_NANOS.record(System.nanoTime() - start);
+        }
+        return applyMove(cardIndex, color);
+    }
+
+    /**
+     * Plays the card at the given hand index, naming the given color if it is a wild.
+     * Strategy.CHALLENGE challenges a wild draw four if the player may.
+     * Otherwise, if the index is -1 or the card may not be played, the player draws instead.
+     * @return The card played, or Deck.NO_CARD if the player drew or challenged instead
+     */
+    public byte applyMove(int cardIndex, int wildColor) {
+        if (cardIndex == Strategy.CHALLENGE && challenge()) {
+            return Deck.NO_CARD;
+        }
+        if (!canPlay(cardIndex)) {
+            drawCardForPlayer();
+            return Deck.NO_CARD;
+        }
+
+        byte card = players[currentPlayerIndex].getCardId(cardIndex);
+        if (Card.colorOf(card) == COLOR_WILD && (wildColor < 0 || wildColor >= COLOR_WILD)) {
+            wildColor = chooseRandomColor();
+        }
+        playCard(cardIndex, wildColor);
+        return card;
+    }
+
+    public boolean playCard(int cardIndex) {
+        return playCard(cardIndex, -1);
+    }
+
+    /**
+     * Plays the card at the given hand index, first naming wildColor if the card is a wild.
+     * A wildColor of -1, or anything that is not one of the four colors, keeps the current color.
+     */
+    public boolean playCard(int cardIndex, int wildColor) {
+        if (!canPlay(cardIndex)) {
+            return false;
+        }
+        if (wildColor >= COLOR_WILD) {
+            // Naming WILD would leave a color nothing can be played on
+            wildColor = -1;
+        }
+
+        if (metered()) {
+            playMetered(cardIndex, wildColor);
+        } else {
+            play(cardIndex, wildColor);
+        }
+        return true;
+    }
+
+    private void play(int cardIndex, int wildColor) {
+        beginMove();
+        if (recorder != null) {
+            byte card = players[currentPlayerIndex].getCardId(cardIndex);
+            recorder.play(card, Card.colorOf(card) == COLOR_WILD ? namedColor(wildColor) : -1);
+        }
+        playFromHand(cardIndex, wildColor);
+    }
+
+    // play, sometimes timed, and reported to JFR
+    private void playMetered(int cardIndex, int wildColor) {
+        int seat = currentPlayerIndex;
+        byte card = players[seat].getCardId(cardIndex);
+        PlayCardEvent event = new PlayCardEvent();
+        event.begin();
+        boolean timed = timed();
+        long start = timed ? System.nanoTime() : 0;
+        play(cardIndex, wildColor);
+        if (timed) {
+            EngineMetrics.PLAY_CARD_NANOS.record(System.nanoTime() - start);
+        }
+        if (event.shouldCommit()) {
+            event.seat = seat;
+            event.card = Card.of(card).toString();
+            event.handSize = players[seat].getHandSize();
+            event.commit();
+        }
+    }
+
+    /**
+     * Plays the card at the given hand index of seat out of turn, on an identical top card
+     * (see canJumpIn). Play then continues from seat as if it had been their turn.
+     * @return false if the seat may not jump in with that card
+     */
+    public boolean jumpIn(int seat, int cardIndex) {
+        if (!canJumpIn(seat, cardIndex)) {
+            return false;
+        }
+
+        beginMove();
+        if (recorder != null) {
+            recorder.jumpIn(seat, players[seat].getCardId(cardIndex));
+        }
+        currentPlayerIndex = seat;
+        playFromHand(cardIndex, -1);
+        return true;
+    }
+
+    /**
+     * Challenges the wild draw four played on the current player (see RuleSet.challengeDrawFour).
+     * If its player held a card of the color current before it, they draw four cards and
+     * the current player goes on with their turn; otherwise the current player draws six and passes.
+     * @return false if there is nothing to challenge
+     */
+    public boolean challenge() {
+        if (challengeSeat < 0) {
+            return false;
+        }
+
+        beginMove();
+        if (recorder != null) {
+            recorder.challenge();
+        }
+        int offender = challengeSeat;
+        challengeSeat = -1;
+        if (bluffed) {
+            pendingDraw -= 4;
+            drawPenalty(offender, 4);
+        } else {
+            pendingDraw += 2;
+            takePenalty();
+        }
+        turnAdvanced();
+        return true;
+    }
+
+    private int namedColor(int wildColor) {
+        return wildColor >= 0 ? wildColor : currentColor;
+    }
+
+    private void playFromHand(int cardIndex, int wildColor) {
+        int player = currentPlayerIndex;
+        byte card = players[player].getCardId(cardIndex);
+        // Needed to judge a challenge, and whether this card may be challenged
+        boolean heldColor = players[player].getColorCount(currentColor) > 0;
+        boolean challengeable = (challengeMask & (1L << card)) != 0 && pendingDraw == 0;
+        challengeSeat = -1;
+        if (Card.colorOf(card) == COLOR_WILD && wildColor >= 0) {
+            setCurrentColor(wildColor);
+        }
+        players[player].removeCard(cardIndex);
+        deck.discard(card);
+        if (metered()) {
+            EngineMetrics.CARDS_PLAYED.increment();
+        }
+        for (GameListener listener : listeners) {
+            listener.onCardPlayed(player, card);
+        }
+        handChanged(player);
+
+        int rank = Card.rankOf(card);
+        if (rank >= Card.RANK_SKIP) {
+            handleSpecialCard(card, rank);
+        } else {
+            // For number cards, simply update color and move to next player
+            setCurrentColor(Card.colorOf(card));
+            advance();
+        }
+        if (challengeable && pendingDraw > 0) {
+            challengeSeat = player;
+            bluffed = heldColor;
+        }
+        turnAdvanced();
+    }
+
+    /**
+     * Draws a card for the current player WITHOUT advancing to the next player.
+     * A player facing a penalty takes it and passes instead, as with drawCardForPlayer.
+     * @return The drawn card, or Deck.NO_CARD if every card is already in a hand
+     */
+    public byte drawCard() {
+        if (pendingDraw > 0) {
+            return drawCardForPlayer();
+        }
+        return metered() ? drawMetered(false) : draw();
+    }
+
+    private byte draw() {
+        beginMove();
+        if (recorder != null) {
+            recorder.draw();
+        }
+        return drawOne();
+    }
+
+    // draw or drawAndPass, reported to JFR
+    private byte drawMetered(boolean pass) {
+        int seat = currentPlayerIndex;
+        int handSize = players[seat].getHandSize();
+        DrawCardEvent event = new DrawCardEvent();
+        event.begin();
+        byte card = pass ? drawAndPass() : draw();
+        if (event.shouldCommit()) {
+            event.seat = seat;
+            event.cards = players[seat].getHandSize() - handSize;
+            event.passed = currentPlayerIndex != seat;
+            event.commit();
+        }
+        return card;
+    }
+
+    private byte drawOne() {
+        byte card = deck.drawCardId();
+        if (card != Deck.NO_CARD) {
+            if (metered()) {
+                EngineMetrics.CARDS_DRAWN.increment();
+            }
+            players[currentPlayerIndex].addCard(card);
+            for (GameListener listener : listeners) {
+                listener.onCardsDrawn(currentPlayerIndex, 1);
+            }
+            handChanged(currentPlayerIndex);
+        }
+        return card;
+    }
+
+    /**
+     * Draws a card for the current player and advances to the next player.
+     * A player facing a penalty draws all of it instead. Under RuleSet.drawUntilPlayable,
+     * a player with nothing to play draws until they get a playable card and keeps the turn.
+     * @return The last card drawn, or Deck.NO_CARD if a penalty was taken or every card is already in a hand
+     */
+    public byte drawCardForPlayer() {
+        return metered() ? drawMetered(true) : drawAndPass();
+    }
+
+    private byte drawAndPass() {
+        beginMove();
+        if (recorder != null) {
+            recorder.drawAndPass();
+        }
+        if (pendingDraw > 0) {
+            challengeSeat = -1;
+            takePenalty();
+            turnAdvanced();
+            return Deck.NO_CARD;
+        }
+
+        long playable = playableMask();
+        int limit = (players[currentPlayerIndex].getFaceMask() & playable) == 0 ? drawLimit : 1;
+        byte card = drawOne();
+        for (int drawn = 1; drawn < limit && card != Deck.NO_CARD && (playable & (1L << card)) == 0; drawn++) {
+            card = drawOne();
+        }
+        if (limit == 1 || card == Deck.NO_CARD || (playable & (1L << card)) == 0) {
+            advance();
+        }
+        turnAdvanced();
+        return card;
+    }
+
+    // The current player draws the pending penalty and loses their turn
+    private void takePenalty() {
+        drawPenalty(currentPlayerIndex, pendingDraw);
+        pendingDraw = 0;
+        advance();
+    }
+
+    private void handleSpecialCard(byte card, int rank) {
+        switch (rank) {
+            case Card.RANK_SKIP:
+                setCurrentColor(Card.colorOf(card));
+                advance(); // Skip next player
+                advance();
+                break;
+
+            case Card.RANK_REVERSE:
+                setCurrentColor(Card.colorOf(card));
+                clockwise = !clockwise;
+                for (GameListener listener : listeners) {
+                    listener.onDirectionChanged(clockwise);
+                }
+                if (players.length == 2) {
+                    // In a 2-player game, reverse acts like skip
+                    advance();
+                }
+                advance();
+                break;
+
+            case Card.RANK_DRAW_TWO:
+                setCurrentColor(Card.colorOf(card));
+                advance();
+                // Next player draws 2 cards
+                penalize(card, 2);
+                break;
+
+            case Card.RANK_WILD:
+                // currentColor is set by the player before playing
+                advance();
+                break;
+
+            case Card.RANK_DRAW_FOUR:
+                // currentColor is set by the player before playing
+                advance();
+                penalize(card, 4);
+                break;
+        }
+    }
+
+    // The current player draws count cards and loses their turn, unless the rules let them reply first
+    private void penalize(byte card, int count) {
+        if ((deferredPenaltyMask & (1L << card)) == 0) {
+            drawPenalty(currentPlayerIndex, count);
+            advance();
+        } else {
+            pendingDraw += count;
+        }
+    }
+
+    // Adds up to count cards to the seat's hand, reported as one event
+    private void drawPenalty(int seat, int count) {
+        Player player = players[seat];
+        int drawn = 0;
+        for (int i = 0; i < count; i++) {
+            byte card = deck.drawCardId();
+            if (card != Deck.NO_CARD) {
+                player.addCard(card);
+                drawn++;
+            }
+        }
+        if (drawn > 0) {
+            if (metered()) {
+                EngineMetrics.CARDS_DRAWN.add(drawn);
+            }
+            for (GameListener listener : listeners) {
+                listener.onCardsDrawn(seat, drawn);
+            }
+            handChanged(seat);
+        }
+    }
+
+    /**
+     * Ends the current player's turn. A player facing a penalty takes it, as with drawCardForPlayer.
+     */
+    public void nextPlayer() {
+        if (pendingDraw > 0) {
+            drawCardForPlayer();
+            return;
+        }
+        beginMove();
+        if (recorder != null) {
+            recorder.pass();
+        }
+        advance();
+        turnAdvanced();
+    }
+
+    private void advance() {
+        currentPlayerIndex = nextSeat(currentPlayerIndex);
+    }
+
+    private int nextSeat(int seat) {
+        if (clockwise) {
+            return seat + 1 == players.length ? 0 : seat + 1;
+        }
+        return seat == 0 ? players.length - 1 : seat - 1;
+    }
+
+    private int previousSeat(int seat) {
+        if (clockwise) {
+            return seat == 0 ? players.length - 1 : seat - 1;
+        }
+        return seat + 1 == players.length ? 0 : seat + 1;
+    }
+
+    private void turnAdvanced() {
+        if (metered()) {
+            EngineMetrics.TURNS.increment();
+            EngineMetrics.HAND_SIZES.record(players[currentPlayerIndex].getHandSize());
+        }
+        for (GameListener listener : listeners) {
+            listener.onTurnAdvanced(currentPlayerIndex);
+        }
+    }
+
+    public boolean isGameOver() {
+        return winner >= 0;
+    }
+
+    /**
+     * @return The index of the first player to empty their hand, or -1
+     */
+    public int getWinner() {
+        return winner;
+    }
+
+    /**
+     * @return A mask with bit (1L << player) set for every player holding exactly one card
+     */
+    public long getUnoMask() {
+        return unoMask;
+    }
+
+    public boolean hasUno(int player) {
+        return (unoMask & (1L << player)) != 0;
+    }
+
+    public void addListener(GameListener listener) {
+        GameListener[] updated = Arrays.copyOf(listeners, listeners.length + 1);
+        updated[listeners.length] = listener;
+        listeners = updated;
+    }
+
+    public void removeListener(GameListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                GameListener[] updated = new GameListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, updated, 0, i);
+                System.arraycopy(listeners, i + 1, updated, i, updated.length - i);
+                listeners = updated;
+                return;
+            }
+        }
+    }
+
+    private void handChanged(int player) {
+        int size = players[player].getHandSize();
+        long bit = 1L << player;
+        if (size != 1) {
+            unoMask &= ~bit;
+        } else if ((unoMask & bit) == 0) {
+            unoMask |= bit;
+            for (GameListener listener : listeners) {
+                listener.onUno(player);
+            }
+        }
+
+        if (size == 0 && winner < 0) {
+            winner = player;
+            if (metered()) {
+                EngineMetrics.GAMES_FINISHED.increment();
+            }
+            for (GameListener listener : listeners) {
+                listener.onGameOver(player);
+            }
+        }
+    }
+
+    private static long drawTwoMask() {
+        long mask = 0;
+        for (int color = 0; color < COLOR_WILD; color++) {
+            mask |= 1L << (color * Card.RANKS_PER_COLOR + Card.RANK_DRAW_TWO);
+        }
+        return mask;
+    }
+
+    private final class CurrentPlayerView implements PlayerView {
+        @Override
+        public int getSeat() {
+            return currentPlayerIndex;
+        }
+
+        @Override
+        public int getNumPlayers() {
+            return players.length;
+        }
+
+        @Override
+        public boolean isClockwise() {
+            return clockwise;
+        }
+
+        @Override
+        public int getNextSeat() {
+            return nextSeat(currentPlayerIndex);
+        }
+
+        @Override
+        public int getHandSize(int seat) {
+            return players[seat].getHandSize();
+        }
+
+        @Override
+        public byte getTopCard() {
+            return deck.getTopDiscardId();
+        }
+
+        @Override
+        public int getCurrentColor() {
+            return currentColor;
+        }
+
+        @Override
+        public int getDrawPileSize() {
+            return deck.size();
+        }
+
+        @Override
+        public int getHandSize() {
+            return players[currentPlayerIndex].getHandSize();
+        }
+
+        @Override
+        public byte getCard(int index) {
+            return players[currentPlayerIndex].getCardId(index);
+        }
+
+        @Override
+        public int indexOf(byte cardId) {
+            return players[currentPlayerIndex].indexOf(cardId);
+        }
+
+        @Override
+        public int getCount(byte cardId) {
+            return players[currentPlayerIndex].getFaceCount(cardId);
+        }
+
+        @Override
+        public int getColorCount(int color) {
+            return players[currentPlayerIndex].getColorCount(color);
+        }
+
+        @Override
+        public long getHandMask() {
+            return players[currentPlayerIndex].getFaceMask();
+        }
+
+        @Override
+        public long getPlayableMask() {
+            return players[currentPlayerIndex].getFaceMask() & playableMask();
+        }
+
+        @Override
+        public int getPendingDraw() {
+            return pendingDraw;
+        }
+
+        @Override
+        public boolean canChallenge() {
+            return challengeSeat >= 0;
+        }
+
+        @Override
+        public RuleSet getRules() {
+            return rules;
+        }
+
+        @Override
+        public RandomGenerator getRandom() {
+            return random;
+        }
+    }
+}
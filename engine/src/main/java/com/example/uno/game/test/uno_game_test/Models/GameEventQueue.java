@@ -0,0 +1,106 @@
+package com.example.uno.game.test.uno_game_test.Models;
+
+import java.util.Arrays;
+
+/**
+ * A GameListener that stores events instead of handling them, so a consumer can
+ * handle a whole batch of moves at once (for example one render per computer turn).
+ * Events are kept as ints, so recording allocates nothing once the buffer has grown.
+ * Not thread-safe: record and drain on the same thread.
+ */
+public class GameEventQueue implements GameListener {
+    private static final int CARD_PLAYED = 0;
+    private static final int CARDS_DRAWN = 1;
+    private static final int TURN_ADVANCED = 2;
+    private static final int DIRECTION_CHANGED = 3;
+    private static final int COLOR_CHANGED = 4;
+    private static final int UNO = 5;
+    private static final int GAME_OVER = 6;
+
+    // Each event takes three ints: type, first argument, second argument
+    private int[] events = new int[3 * 32];
+    private int size;
+
+    public GameEventQueue() {
+    }
+
+    @Override
+    public void onCardPlayed(int player, byte cardId) {
+        record(CARD_PLAYED, player, cardId);
+    }
+
+    @Override
+    public void onCardsDrawn(int player, int count) {
+        record(CARDS_DRAWN, player, count);
+    }
+
+    @Override
+    public void onTurnAdvanced(int player) {
+        record(TURN_ADVANCED, player, 0);
+    }
+
+    @Override
+    public void onDirectionChanged(boolean clockwise) {
+        record(DIRECTION_CHANGED, clockwise ? 1 : 0, 0);
+    }
+
+    @Override
+    public void onColorChanged(int color) {
+        record(COLOR_CHANGED, color, 0);
+    }
+
+    @Override
+    public void onUno(int player) {
+        record(UNO, player, 0);
+    }
+
+    @Override
+    public void onGameOver(int winner) {
+        record(GAME_OVER, winner, 0);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return The number of queued events
+     */
+    public int size() {
+        return size / 3;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Passes every queued event to the target, in order, and empties the queue.
+     */
+    public void drain(GameListener target) {
+        for (int i = 0; i < size; i += 3) {
+            int a = events[i + 1];
+            int b = events[i + 2];
+            switch (events[i]) {
+                case CARD_PLAYED -> target.onCardPlayed(a, (byte) b);
+                case CARDS_DRAWN -> target.onCardsDrawn(a, b);
+                case TURN_ADVANCED -> target.onTurnAdvanced(a);
+                case DIRECTION_CHANGED -> target.onDirectionChanged(a != 0);
+                case COLOR_CHANGED -> target.onColorChanged(a);
+                case UNO -> target.onUno(a);
+                case GAME_OVER -> target.onGameOver(a);
+            }
+        }
+        size = 0;
+    }
+
+    private void record(int type, int a, int b) {
+        if (size + 3 > events.length) {
+            events = Arrays.copyOf(events, events.length * 2);
+        }
+        events[size] = type;
+        events[size + 1] = a;
+        events[size + 2] = b;
+        size += 3;
+    }
+}
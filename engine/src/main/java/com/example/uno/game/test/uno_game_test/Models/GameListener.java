@@ -0,0 +1,52 @@
+package com.example.uno.game.test.uno_game_test.Models;
+
+/**
+ * Receives game events from a GameEngine, synchronously on the thread that made the move.
+ * All methods do nothing by default, so listeners only override what they need.
+ * Players are identified by their seat index, cards by their ID (see Card.of(byte))
+ * and colors by their Card.Color ordinal.
+ *
+ * To handle events in batches, register a GameEventQueue and drain it later.
+ */
+public interface GameListener {
+
+    /**
+     * A card left the player's hand and is now the top discard.
+     * Fired before any of the card's effects.
+     */
+    default void onCardPlayed(int player, byte cardId) {
+    }
+
+    /**
+     * Cards were added to a player's hand, either by drawing or as a penalty.
+     */
+    default void onCardsDrawn(int player, int count) {
+    }
+
+    /**
+     * The turn passed to the given player. Fired once per move, after all skips.
+     */
+    default void onTurnAdvanced(int player) {
+    }
+
+    default void onDirectionChanged(boolean clockwise) {
+    }
+
+    /**
+     * The color to match changed, by a played card or a wild color choice.
+     */
+    default void onColorChanged(int color) {
+    }
+
+    /**
+     * A player is down to exactly one card.
+     */
+    default void onUno(int player) {
+    }
+
+    /**
+     * A player has emptied their hand. Fired once per game.
+     */
+    default void onGameOver(int winner) {
+    }
+}
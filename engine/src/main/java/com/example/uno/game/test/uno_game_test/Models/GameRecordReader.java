@@ -0,0 +1,174 @@
+package com.example.uno.game.test.uno_game_test.Models;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Reads a game recorded by GameRecordWriter and plays it again.
+ * The header is read when the reader is created; replay plays the moves.
+ */
+public final class GameRecordReader implements Closeable {
+    private final DataInputStream in;
+    private final long seed;
+    private final int numPlayers;
+    private final int ruleFlags;
+    private final int undoCapacity;
+
+    public GameRecordReader(InputStream in) throws IOException {
+        this.in = in instanceof DataInputStream data ? data : new DataInputStream(in);
+        if (this.in.readInt() != GameRecordWriter.MAGIC) {
+            throw new IOException("Not a game record");
+        }
+        int version = this.in.readUnsignedByte();
+        if (version != GameRecordWriter.VERSION) {
+            throw new IOException("Unsupported game record version " + version);
+        }
+        seed = this.in.readLong();
+        numPlayers = this.in.readUnsignedByte();
+        ruleFlags = this.in.readUnsignedByte();
+        undoCapacity = this.in.readUnsignedShort();
+    }
+
+    /**
+     * Reads a record held in a buffer, such as a slice of a memory-mapped archive,
+     * from its position to its limit without copying it.
+     */
+    public GameRecordReader(ByteBuffer record) throws IOException {
+        this(new ByteBufferInputStream(record));
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getNumPlayers() {
+        return numPlayers;
+    }
+
+    public int getRuleFlags() {
+        return ruleFlags;
+    }
+
+    /**
+     * @throws IOException If the record uses rules this version does not know
+     */
+    public RuleSet getRules() throws IOException {
+        try {
+            return RuleSet.fromFlags(ruleFlags);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Game record uses unknown rules", e);
+        }
+    }
+
+    /**
+     * Plays the recorded game on a new Game.
+     */
+    public Game replay() throws IOException {
+        Game game = new Game(numPlayers, seed, getRules());
+        replayInto(game.getEngine());
+        return game;
+    }
+
+    /**
+     * Restarts engine from the recorded seed and plays every recorded move on it.
+     * The engine must have the record's number of players and rules.
+     * Reusing one engine for many records replays them without allocating.
+     * Listeners of the engine see the moves as they are replayed.
+     * @return The number of moves played
+     */
+    public int replayInto(GameEngine engine) throws IOException {
+        if (engine.getNumPlayers() != numPlayers) {
+            throw new IllegalArgumentException("Record is for " + numPlayers
+                    + " players, engine has " + engine.getNumPlayers());
+        }
+        if (engine.getRules().toFlags() != ruleFlags) {
+            throw new IllegalArgumentException("Record uses rules " + getRules() + ", engine has " + engine.getRules());
+        }
+        engine.setUndoCapacity(undoCapacity);
+        engine.reset(seed);
+
+        int moves = 0;
+        while (true) {
+            int action = in.read();
+            if (action < 0) {
+                throw new EOFException("Game record ends without an end marker");
+            }
+            if (action == GameRecordWriter.END) {
+                return moves;
+            }
+            apply(engine, action);
+            moves++;
+        }
+    }
+
+    private void apply(GameEngine engine, int action) throws IOException {
+        switch (action) {
+            case GameRecordWriter.DRAW -> engine.drawCard();
+            case GameRecordWriter.PASS -> engine.nextPlayer();
+            case GameRecordWriter.DRAW_AND_PASS -> engine.drawCardForPlayer();
+            case GameRecordWriter.CHALLENGE -> {
+                if (!engine.challenge()) {
+                    throw new IOException("Game record does not match the game: nothing to challenge");
+                }
+            }
+            case GameRecordWriter.JUMP_IN -> {
+                int seat = in.readUnsignedByte();
+                byte card = in.readByte();
+                int cardIndex = seat < engine.getNumPlayers() ? engine.getPlayer(seat).indexOf(card) : -1;
+                if (!engine.jumpIn(seat, cardIndex)) {
+                    throw new IOException("Game record does not match the game: player " + seat
+                            + " cannot jump in with card " + card);
+                }
+            }
+            case GameRecordWriter.UNDO -> {
+                if (!engine.undo()) {
+                    throw new IOException("Game record undoes more moves than were played");
+                }
+            }
+            default -> {
+                if (action >= Card.FACE_COUNT) {
+                    throw new IOException("Unknown move " + action + " in game record");
+                }
+                byte card = (byte) action;
+                int wildColor = Card.colorOf(card) == Card.Color.WILD.ordinal() ? in.readUnsignedByte() : -1;
+                int cardIndex = engine.getPlayer(engine.getCurrentPlayerIndex()).indexOf(card);
+                if (cardIndex < 0 || !engine.playCard(cardIndex, wildColor)) {
+                    throw new IOException("Game record does not match the game: card " + card
+                            + " cannot be played by player " + engine.getCurrentPlayerIndex());
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (!buffer.hasRemaining()) {
+                return length == 0 ? 0 : -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.uno.game.test.uno_game_test.Models;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Streams a game's moves in the compact record format, read back by GameRecordReader.
+ * Attach it with GameEngine.startRecording (or Game.startRecording) right after the seeded
+ * game starts; the deck order follows from the seed, so only the moves are stored.
+ *
+ * Format, big-endian:
+ *   header:  "UNOR", version (1 byte), seed (8), players (1), rule flags (1), undo capacity (2)
+ *   moves:   0-53   a card ID played; a wild is followed by the color named (1 byte)
+ *            DRAW   drawCard, DRAW_AND_PASS drawCardForPlayer, PASS nextPlayer, UNDO undo,
+ *            CHALLENGE challenge, JUMP_IN jumpIn followed by the seat and card ID (1 byte each)
+ *   end:     END
+ * Moves are buffered and written when the buffer fills or the writer is flushed or closed.
+ * A write that fails while a move is recorded stops the recording, never the move: the
+ * writer ignores every later move, and flush and close report the failure.
+ * Not thread-safe; use it from the thread that plays the game.
+ */
+public final class GameRecordWriter implements Closeable {
+    static final int MAGIC = 0x554E4F52; // "UNOR"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 17;
+
+    static final int DRAW = 0x40;
+    static final int PASS = 0x41;
+    static final int DRAW_AND_PASS = 0x42;
+    static final int UNDO = 0x43;
+    static final int CHALLENGE = 0x44;
+    static final int JUMP_IN = 0x45;
+    static final int END = 0xFF;
+
+    private static final int BUFFER_SIZE = 1024;
+
+    private final OutputStream out;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int buffered;
+    private long bytesWritten;
+    private int moveCount;
+    private boolean headerWritten;
+    private boolean closed;
+    // The write that stopped the recording, if one failed
+    private IOException failure;
+
+    public GameRecordWriter(OutputStream out) {
+        this.out = out;
+    }
+
+    /**
+     * @return Moves recorded so far, counting undos as moves
+     */
+    public int getMoveCount() {
+        return moveCount;
+    }
+
+    /**
+     * @return Whether a failed write stopped the recording, leaving the record incomplete
+     */
+    public boolean hasFailed() {
+        return failure != null;
+    }
+
+    /**
+     * @return Bytes recorded so far, including any still buffered
+     */
+    public long getBytesWritten() {
+        return bytesWritten + buffered;
+    }
+
+    void writeHeader(long seed, int numPlayers, int ruleFlags, int undoCapacity) {
+        if (headerWritten) {
+            throw new IllegalStateException("Writer already holds a game");
+        }
+        headerWritten = true;
+        putInt(MAGIC);
+        put(VERSION);
+        putInt((int) (seed >>> 32));
+        putInt((int) seed);
+        put(numPlayers);
+        put(ruleFlags);
+        put(Math.min(undoCapacity, 0xFFFF) >>> 8);
+        put(Math.min(undoCapacity, 0xFFFF));
+    }
+
+    void play(byte cardId, int wildColor) {
+        moveCount++;
+        put(cardId);
+        if (wildColor >= 0) {
+            put(wildColor);
+        }
+    }
+
+    void draw() {
+        moveCount++;
+        put(DRAW);
+    }
+
+    void pass() {
+        moveCount++;
+        put(PASS);
+    }
+
+    void drawAndPass() {
+        moveCount++;
+        put(DRAW_AND_PASS);
+    }
+
+    void undo() {
+        moveCount++;
+        put(UNDO);
+    }
+
+    void challenge() {
+        moveCount++;
+        put(CHALLENGE);
+    }
+
+    void jumpIn(int seat, byte cardId) {
+        moveCount++;
+        put(JUMP_IN);
+        put(seat);
+        put(cardId);
+    }
+
+    public void flush() throws IOException {
+        if (failure != null) {
+            throw failure;
+        }
+        if (buffered > 0) {
+            out.write(buffer, 0, buffered);
+            bytesWritten += buffered;
+            buffered = 0;
+        }
+        out.flush();
+    }
+
+    /**
+     * Ends the record and closes the stream. Moves made afterwards are ignored.
+     * @throws IOException If this or an earlier write failed, so the record is incomplete
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        if (headerWritten) {
+            put(END);
+        }
+        closed = true;
+        try {
+            flush();
+        } finally {
+            out.close();
+        }
+    }
+
+    private void putInt(int value) {
+        put(value >>> 24);
+        put(value >>> 16);
+        put(value >>> 8);
+        put(value);
+    }
+
+    // Called in the middle of a move, so a failed write is kept for flush and close instead of thrown
+    private void put(int value) {
+        if (closed || failure != null) {
+            return;
+        }
+        if (buffered == BUFFER_SIZE) {
+            try {
+                flush();
+            } catch (IOException e) {
+                failure = e;
+                return;
+            }
+        }
+        buffer[buffered++] = (byte) value;
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.uno.game.test.uno_game_test.Models;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.CRC32C;
+
+/**
+ * Saves a running game to bytes and loads it back, to resume it later.
+ *
+ * Format, big-endian:
+ *   header:  "UNOS", version (1 byte), players (1), rule flags (1, see RuleSet.toFlags)
+ *   turn:    current player (1), clockwise (1), current color (1), winner (1, 0xFF if none), UNO mask (8),
+ *            pending penalty (1), challengeable seat (1, 0xFF if none), bluffed (1)
+ *   deck:    discard size (1), draw size (1), the discard pile from its top down, then the draw pile
+ *            from its bottom up (1 byte per card ID)
+ *   players: for each seat, hand size (1), card IDs (1 each), name length (2), name (UTF-8)
+ *   end:     CRC-32C of everything before it (4)
+ * A game of four takes about 150 bytes. Loading checks the checksum and that every card
+ * of the deck is present exactly once, so a damaged file is rejected rather than resumed.
+ */
+public final class GameSaveCodec {
+    static final int MAGIC = 0x554E4F53; // "UNOS"
+    static final int VERSION = 2;
+
+    private static final int NO_SEAT = 0xFF;
+    private static final int MAX_NAME_LENGTH = 0xFFFF;
+    // Everything but the cards and names
+    private static final int FIXED_SIZE = 7 + 15 + 2 + 4;
+    private static final int PLAYER_FIXED_SIZE = 3;
+
+    private GameSaveCodec() {
+    }
+
+    /**
+     * Encodes the game as it is now. Call it on the thread that plays the game;
+     * the result can then be written from any thread.
+     */
+    public static byte[] encode(Game game) {
+        GameEngine engine = game.getEngine();
+        int numPlayers = engine.getNumPlayers();
+        GameState state = new GameState(numPlayers);
+        engine.saveState(state);
+
+        byte[][] names = new byte[numPlayers][];
+        int size = FIXED_SIZE + Deck.DECK_SIZE;
+        for (int i = 0; i < numPlayers; i++) {
+            String name = game.getPlayers().get(i).getName();
+            names[i] = (name == null ? "" : name).getBytes(StandardCharsets.UTF_8);
+            if (names[i].length > MAX_NAME_LENGTH) {
+                throw new IllegalArgumentException("Name of player " + i + " is too long to save");
+            }
+            size += PLAYER_FIXED_SIZE + names[i].length;
+        }
+
+        ByteBuffer out = ByteBuffer.allocate(size);
+        out.putInt(MAGIC)
+                .put((byte) VERSION)
+                .put((byte) numPlayers)
+                .put((byte) engine.getRules().toFlags());
+
+        out.put((byte) state.currentPlayer)
+                .put((byte) (state.clockwise ? 1 : 0))
+                .put((byte) state.currentColor)
+                .put((byte) (state.winner < 0 ? NO_SEAT : state.winner))
+                .putLong(state.unoMask)
+                .put((byte) state.pendingDraw)
+                .put((byte) (state.challengeSeat < 0 ? NO_SEAT : state.challengeSeat))
+                .put((byte) (state.bluffed ? 1 : 0));
+
+        // The deck ring from the discard top to the draw top, in the order Deck.setPiles takes
+        out.put((byte) state.discardSize).put((byte) state.drawSize);
+        int pileCards = state.discardSize + state.drawSize;
+        int first = state.deckBottom - state.discardSize;
+        for (int i = 0; i < pileCards; i++) {
+            out.put(state.deckCards[Math.floorMod(first + i, Deck.DECK_SIZE)]);
+        }
+
+        int offset = 0;
+        for (int i = 0; i < numPlayers; i++) {
+            int handSize = state.handSizes[i];
+            out.put((byte) handSize).put(state.handCards, offset, handSize);
+            offset += handSize;
+            out.putShort((short) names[i].length).put(names[i]);
+        }
+
+        CRC32C crc = new CRC32C();
+        crc.update(out.array(), 0, out.position());
+        out.putInt((int) crc.getValue());
+        return out.array();
+    }
+
+    /**
+     * Decodes a game saved by encode. The game continues exactly where it was saved,
+     * with a fresh random source for later shuffles and computer color choices.
+     * @throws IOException If the data is damaged or not a saved game
+     */
+    public static Game decode(ByteBuffer in) throws IOException {
+        int start = in.position();
+        int length = in.remaining();
+        if (length < FIXED_SIZE) {
+            throw new IOException("Saved game is truncated");
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(in.slice(start, length - 4));
+        if ((int) crc.getValue() != in.getInt(start + length - 4)) {
+            throw new IOException("Saved game is damaged: checksum does not match");
+        }
+
+        try {
+            if (in.getInt() != MAGIC) {
+                throw new IOException("Not a saved game");
+            }
+            int version = in.get() & 0xFF;
+            if (version != VERSION) {
+                throw new IOException("Unsupported saved game version " + version);
+            }
+            int numPlayers = in.get() & 0xFF;
+            if (numPlayers < GameEngine.MIN_PLAYERS || numPlayers > GameEngine.MAX_DEALT_PLAYERS) {
+                throw new IOException("Saved game has " + numPlayers + " players");
+            }
+            RuleSet rules;
+            try {
+                rules = RuleSet.fromFlags(in.get() & 0xFF);
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Saved game uses rules this version does not support", e);
+            }
+
+            GameState state = new GameState(numPlayers);
+            state.currentPlayer = in.get() & 0xFF;
+            state.clockwise = in.get() != 0;
+            state.currentColor = in.get() & 0xFF;
+            int winner = in.get() & 0xFF;
+            state.winner = winner == NO_SEAT ? -1 : winner;
+            state.unoMask = in.getLong();
+            state.pendingDraw = in.get() & 0xFF;
+            int challengeSeat = in.get() & 0xFF;
+            state.challengeSeat = challengeSeat == NO_SEAT ? -1 : challengeSeat;
+            state.bluffed = in.get() != 0;
+            if (state.currentPlayer >= numPlayers || state.currentColor >= Card.Color.values().length
+                    || state.winner >= numPlayers || state.challengeSeat >= numPlayers
+                    || state.pendingDraw > Deck.DECK_SIZE) {
+                throw new IOException("Saved game has an invalid turn state");
+            }
+
+            int[] counts = new int[Card.FACE_COUNT];
+            state.discardSize = in.get() & 0xFF;
+            state.drawSize = in.get() & 0xFF;
+            if (state.discardSize < 1 || state.discardSize + state.drawSize > Deck.DECK_SIZE) {
+                throw new IOException("Saved game has invalid pile sizes");
+            }
+            state.deckBottom = state.discardSize;
+            readCards(in, state.deckCards, 0, state.discardSize + state.drawSize, counts);
+
+            String[] names = new String[numPlayers];
+            int offset = 0;
+            for (int i = 0; i < numPlayers; i++) {
+                int handSize = in.get() & 0xFF;
+                if (offset + handSize > Deck.DECK_SIZE) {
+                    throw new IOException("Saved game has more cards than the deck");
+                }
+                readCards(in, state.handCards, offset, handSize, counts);
+                state.handSizes[i] = handSize;
+                offset += handSize;
+
+                byte[] name = new byte[in.getShort() & 0xFFFF];
+                in.get(name);
+                names[i] = new String(name, StandardCharsets.UTF_8);
+            }
+            if (in.remaining() != 4) {
+                throw new IOException("Saved game has trailing data");
+            }
+            in.getInt();
+
+            for (int id = 0; id < Card.FACE_COUNT; id++) {
+                if (counts[id] != Deck.copiesOf((byte) id)) {
+                    throw new IOException("Saved game does not hold a full deck");
+                }
+            }
+
+            Game game = new Game(numPlayers, rules);
+            game.getEngine().restoreState(state);
+            for (int i = 0; i < numPlayers; i++) {
+                game.getPlayers().get(i).setName(names[i]);
+            }
+            return game;
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Saved game is truncated", e);
+        }
+    }
+
+    /**
+     * Writes the saved game to file, replacing it atomically so that a crash
+     * part way through leaves the previous save intact.
+     */
+    public static void write(byte[] save, Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temp, save);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    public static Game read(Path file) throws IOException {
+        return decode(ByteBuffer.wrap(Files.readAllBytes(file)));
+    }
+
+    private static void readCards(ByteBuffer in, byte[] target, int offset, int count, int[] counts)
+            throws IOException {
+        in.get(target, offset, count);
+        for (int i = offset; i < offset + count; i++) {
+            byte id = target[i];
+            if (id < 0 || id >= Card.FACE_COUNT) {
+                throw new IOException("Saved game holds an unknown card " + id);
+            }
+            counts[id]++;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.uno.game.test.uno_game_test.Models;
+
+/**
+ * Compact copy of everything a GameEngine needs to continue a game:
+ * the deck ring, all hands packed into one array, and the turn state.
+ * Filled by GameEngine.saveState and put back with restoreState.
+ * A state is reused across saves, so saving and copying allocate nothing.
+ */
+public final class GameState {
+    // The deck ring, as in Deck
+    final byte[] deckCards = new byte[Deck.DECK_SIZE];
+    int deckBottom;
+    int drawSize;
+    int discardSize;
+
+    // Hands one after another, player 0 first; together they never exceed the deck
+    final byte[] handCards = new byte[Deck.DECK_SIZE];
+    final int[] handSizes;
+
+    int currentPlayer;
+    boolean clockwise;
+    int currentColor;
+    int winner;
+    long unoMask;
+    int pendingDraw;
+    int challengeSeat = -1;
+    boolean bluffed;
+
+    public GameState(int numPlayers) {
+        handSizes = new int[numPlayers];
+    }
+
+    public int getNumPlayers() {
+        return handSizes.length;
+    }
+
+    public int getCurrentPlayer() {
+        return currentPlayer;
+    }
+
+    /**
+     * Copies this state into target, which must be for the same number of players.
+     */
+    public void copyInto(GameState target) {
+        if (target.handSizes.length != handSizes.length) {
+            throw new IllegalArgumentException("States are for different numbers of players");
+        }
+        System.arraycopy(deckCards, 0, target.deckCards, 0, Deck.DECK_SIZE);
+        target.deckBottom = deckBottom;
+        target.drawSize = drawSize;
+        target.discardSize = discardSize;
+
+        int handCardCount = 0;
+        for (int size : handSizes) {
+            handCardCount += size;
+        }
+        System.arraycopy(handCards, 0, target.handCards, 0, handCardCount);
+        System.arraycopy(handSizes, 0, target.handSizes, 0, handSizes.length);
+
+        target.currentPlayer = currentPlayer;
+        target.clockwise = clockwise;
+        target.currentColor = currentColor;
+        target.winner = winner;
+        target.unoMask = unoMask;
+        target.pendingDraw = pendingDraw;
+        target.challengeSeat = challengeSeat;
+        target.bluffed = bluffed;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.uno.game.test.uno_game_test.Models;
+
+/**
+ * Plays the first playable card in the hand and picks a random color for wilds.
+ * This is how computer players have always played.
+ */
+public final class GreedyStrategy implements Strategy {
+    public static final GreedyStrategy INSTANCE = new GreedyStrategy();
+
+    private GreedyStrategy() {
+    }
+
+    @Override
+    public int chooseCard(PlayerView view) {
+        long playable = view.getPlayableMask();
+        if (playable == 0) {
+            return -1;
+        }
+
+        for (int i = 0; i < view.getHandSize(); i++) {
+            if ((playable & (1L << view.getCard(i))) != 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int chooseColor(PlayerView view) {
+        return view.getRandom().nextInt(Card.Color.WILD.ordinal());
+    }
+}
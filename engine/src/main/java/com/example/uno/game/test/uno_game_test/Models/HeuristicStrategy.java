@@ -0,0 +1,78 @@
+package com.example.uno.game.test.uno_game_test.Models;
+
+/**
+ * Scores every playable card and plays the best one.
+ * Attacks the next player with skips and draws when they are close to winning,
+ * sheds high numbers, stays on well-stocked colors, and keeps wilds in reserve.
+ * Holds a lone draw four (drawing instead) while nobody is in danger of winning soon.
+ */
+public final class HeuristicStrategy implements Strategy {
+    public static final HeuristicStrategy INSTANCE = new HeuristicStrategy();
+
+    // The next player counts as close to winning at this many cards or fewer
+    private static final int DANGER_HAND_SIZE = 2;
+
+    private HeuristicStrategy() {
+    }
+
+    @Override
+    public int chooseCard(PlayerView view) {
+        long playable = view.getPlayableMask();
+        if (playable == 0) {
+            return -1;
+        }
+
+        int nextHandSize = view.getHandSize(view.getNextSeat());
+        int best = -1;
+        int bestScore = Integer.MIN_VALUE;
+        for (long remaining = playable; remaining != 0; remaining &= remaining - 1) {
+            byte id = (byte) Long.numberOfTrailingZeros(remaining);
+            int score = score(view, id, nextHandSize);
+            if (score > bestScore) {
+                best = id;
+                bestScore = score;
+            }
+        }
+
+        if (best == Card.DRAW_FOUR_ID && playable == 1L << Card.DRAW_FOUR_ID
+                && nextHandSize > DANGER_HAND_SIZE + 2 && view.getHandSize() > 4) {
+            // Save the draw four for when it matters
+            return -1;
+        }
+        return view.indexOf((byte) best);
+    }
+
+    @Override
+    public int chooseColor(PlayerView view) {
+        return ColorMajorityStrategy.majorityColor(view);
+    }
+
+    private static int score(PlayerView view, byte id, int nextHandSize) {
+        boolean nextInDanger = nextHandSize <= DANGER_HAND_SIZE;
+        int rank = Card.rankOf(id);
+
+        if (rank == Card.RANK_WILD) {
+            return -20;
+        }
+        if (rank == Card.RANK_DRAW_FOUR) {
+            return nextInDanger ? 40 : -25;
+        }
+
+        int color = Card.colorOf(id);
+        // Prefer colors we can keep following, and changing to them
+        int score = 2 * view.getColorCount(color);
+        if (color != view.getCurrentColor()) {
+            score += view.getColorCount(color) - view.getColorCount(view.getCurrentColor());
+        }
+
+        if (rank < Card.RANK_SKIP) {
+            // Shed high numbers first
+            score += rank;
+        } else if (rank == Card.RANK_SKIP || rank == Card.RANK_DRAW_TWO) {
+            score += nextInDanger ? 30 : 8;
+        } else if (rank == Card.RANK_REVERSE) {
+            score += view.getNumPlayers() == 2 && nextInDanger ? 30 : 6;
+        }
+        return score;
+    }
+}
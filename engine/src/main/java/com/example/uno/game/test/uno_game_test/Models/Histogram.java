@@ -0,0 +1,121 @@
+package com.example.uno.game.test.uno_game_test.Models;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of non-negative longs, such as latencies in nanoseconds or hand sizes.
+ * Values below 64 are counted exactly; larger ones fall into 32 buckets per power of two,
+ * so any value reads back within about 3% (the layout HdrHistogram uses). Recording is
+ * one atomic increment and safe from any thread; a snapshot taken meanwhile may miss
+ * the values being recorded.
+ */
+public final class Histogram {
+    private static final int SUB_BITS = 6;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final int HALF_COUNT = SUB_COUNT / 2;
+    // Enough buckets for Long.MAX_VALUE
+    private static final int BUCKETS = indexOf(Long.MAX_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    public Histogram() {
+    }
+
+    public void record(long value) {
+        counts.getAndIncrement(indexOf(Math.max(value, 0)));
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+    }
+
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+        }
+        return new Snapshot(copy);
+    }
+
+    // Values below SUB_COUNT map to themselves; above, the top SUB_BITS bits pick the bucket
+    private static int indexOf(long value) {
+        if (value < SUB_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BITS - 1);
+        return shift * HALF_COUNT + (int) (value >>> shift);
+    }
+
+    private static long lowestValueAt(int index) {
+        if (index < SUB_COUNT) {
+            return index;
+        }
+        int shift = index / HALF_COUNT - 1;
+        return (long) (index - shift * HALF_COUNT) << shift;
+    }
+
+    /**
+     * The histogram's counts at one moment. Values read back as the middle of their bucket.
+     */
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long count;
+
+        private Snapshot(long[] counts) {
+            this.counts = counts;
+            long total = 0;
+            for (long bucket : counts) {
+                total += bucket;
+            }
+            this.count = total;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * @param fraction Between 0 and 1, such as 0.99 for the 99th percentile
+         * @return The value that fraction of the recorded values are at or below, or 0 if none were recorded
+         */
+        public long getPercentile(double fraction) {
+            long rank = Math.max(1, (long) Math.ceil(count * fraction));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return valueAt(i);
+                }
+            }
+            return 0;
+        }
+
+        public double getMean() {
+            if (count == 0) {
+                return 0;
+            }
+            double sum = 0;
+            for (int i = 0; i < counts.length; i++) {
+                sum += (double) counts[i] * valueAt(i);
+            }
+            return sum / count;
+        }
+
+        public long getMax() {
+            for (int i = counts.length - 1; i >= 0; i--) {
+                if (counts[i] > 0) {
+                    return valueAt(i);
+                }
+            }
+            return 0;
+        }
+
+        private static long valueAt(int index) {
+            long low = lowestValueAt(index);
+            long high = index + 1 < BUCKETS ? lowestValueAt(index + 1) - 1 : Long.MAX_VALUE;
+            return low + (high - low) / 2;
+        }
+    }
+}
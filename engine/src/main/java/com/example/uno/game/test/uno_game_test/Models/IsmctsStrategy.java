@@ -0,0 +1,254 @@
+package com.example.uno.game.test.uno_game_test.Models;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Information Set Monte Carlo Tree Search (single observer).
+ * Every iteration deals the cards the player cannot see at random (see GameEngine.determinize),
+ * walks the shared tree using only the moves legal in that deal, and finishes the game
+ * with a fast playout strategy. The move visited most often is played.
+ *
+ * Search is root-parallel: each thread grows its own tree for the time budget,
+ * and the root statistics are summed at the end.
+ * Each call to chooseCard blocks for the whole budget, so the strategy suits opponents
+ * and offline tuning rather than bulk simulation.
+ *
+ * One instance may be shared by every seat and thread (Strategy.byName hands out one for all
+ * computer seats). The only state between calls is the color chosen with a wild, kept per
+ * thread until the chooseColor call that follows chooseCard for the same move on that thread,
+ * as GameEngine.playTurn and the other callers make it.
+ */
+public final class IsmctsStrategy implements Strategy {
+    public static final long DEFAULT_BUDGET_MILLIS = 200;
+
+    // Actions: card IDs 0-51, wild + color 52-55, draw four + color 56-59, draw and pass 60
+    private static final int WILD_ACTIONS = Card.WILD_ID;
+    private static final int DRAW_FOUR_ACTIONS = WILD_ACTIONS + 4;
+    private static final int DRAW_ACTION = DRAW_FOUR_ACTIONS + 4;
+    private static final int ACTION_COUNT = DRAW_ACTION + 1;
+    private static final long COLORED_ACTIONS = (1L << Card.WILD_ID) - 1;
+
+    private static final double EXPLORATION = 0.7;
+    private static final int MAX_PLAYOUT_TURNS = 1_000;
+
+    private final long budgetNanos;
+    private final int threads;
+    private final int maxIterations;
+    private final Strategy playoutStrategy;
+    private final Executor executor;
+
+    // The color chosen together with the last wild returned by chooseCard on this thread,
+    // so seats sharing the strategy on different threads never see each other's choice
+    private final ThreadLocal<int[]> chosenColor = ThreadLocal.withInitial(() -> new int[]{-1});
+
+    public IsmctsStrategy(long budgetMillis, int threads) {
+        this(budgetMillis, threads, Integer.MAX_VALUE, GreedyStrategy.INSTANCE, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param budgetMillis    Thinking time per move
+     * @param threads         Number of trees searched in parallel, including the calling thread
+     * @param maxIterations   Iteration limit per tree, for reproducible searches with a seeded game
+     * @param playoutStrategy Plays out each game after it leaves the tree; must be stateless
+     * @param executor        Runs the extra trees when threads is more than 1
+     */
+    public IsmctsStrategy(long budgetMillis, int threads, int maxIterations,
+                          Strategy playoutStrategy, Executor executor) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Search needs at least 1 thread");
+        }
+        this.budgetNanos = budgetMillis * 1_000_000;
+        this.threads = threads;
+        this.maxIterations = maxIterations;
+        this.playoutStrategy = playoutStrategy;
+        this.executor = executor;
+    }
+
+    @Override
+    public int chooseCard(PlayerView view) {
+        int[] color = chosenColor.get();
+        color[0] = -1;
+        if (view.getPlayableMask() == 0) {
+            return -1;
+        }
+
+        int action = search(view);
+        if (action == DRAW_ACTION) {
+            return -1;
+        }
+        color[0] = colorOf(action);
+        return view.indexOf(cardOf(action));
+    }
+
+    @Override
+    public int chooseColor(PlayerView view) {
+        int color = chosenColor.get()[0];
+        return color >= 0 ? color : ColorMajorityStrategy.majorityColor(view);
+    }
+
+    private int search(PlayerView liveView) {
+        // Workers read a private copy, and each gets its own random source
+        PlayerView view = PlayerViewSnapshot.of(liveView, liveView.getRandom());
+        long deadline = System.nanoTime() + budgetNanos;
+        SplittableRandom random = new SplittableRandom(liveView.getRandom().nextLong());
+
+        List<CompletableFuture<Node>> helpers = new ArrayList<>(threads - 1);
+        for (int i = 1; i < threads; i++) {
+            SplittableRandom helperRandom = random.split();
+            helpers.add(CompletableFuture.supplyAsync(() -> searchTree(view, helperRandom, deadline), executor));
+        }
+        Node root = searchTree(view, random, deadline);
+
+        int[] visits = new int[ACTION_COUNT];
+        root.addVisitsTo(visits);
+        for (CompletableFuture<Node> helper : helpers) {
+            helper.join().addVisitsTo(visits);
+        }
+
+        int best = DRAW_ACTION;
+        for (int action = 0; action < ACTION_COUNT; action++) {
+            if (visits[action] > visits[best]) {
+                best = action;
+            }
+        }
+        return best;
+    }
+
+    private Node searchTree(PlayerView view, SplittableRandom random, long deadline) {
+        GameEngine engine = new GameEngine(view.getNumPlayers(), random, view.getRules());
+        engine.setInstrumented(false);
+        Node root = new Node(null, -1, -1);
+
+        for (int iteration = 0; iteration < maxIterations && System.nanoTime() < deadline; iteration++) {
+            engine.determinize(view, random);
+            Node node = root;
+
+            // Selection and expansion, using only the moves legal in this deal
+            while (!engine.isGameOver()) {
+                long legal = legalActions(engine);
+                int mover = engine.getCurrentPlayerIndex();
+                long untried = legal & ~node.expanded;
+                if (untried != 0) {
+                    int action = randomBit(untried, random);
+                    node = node.expand(action, mover);
+                    apply(engine, action);
+                    break;
+                }
+                node = node.select(legal);
+                apply(engine, node.action);
+            }
+
+            // Playout
+            for (int turns = 0; !engine.isGameOver() && turns < MAX_PLAYOUT_TURNS; turns++) {
+                engine.playTurn(playoutStrategy);
+            }
+
+            // Backpropagation: a node scores when the player who made its move won
+            int winner = engine.getWinner();
+            for (; node != null; node = node.parent) {
+                node.visits++;
+                if (node.player == winner) {
+                    node.wins++;
+                }
+            }
+        }
+        return root;
+    }
+
+    private static long legalActions(GameEngine engine) {
+        long playable = engine.getCurrentPlayerView().getPlayableMask();
+        long actions = (playable & COLORED_ACTIONS) | 1L << DRAW_ACTION;
+        if ((playable & (1L << Card.WILD_ID)) != 0) {
+            actions |= 0xFL << WILD_ACTIONS;
+        }
+        if ((playable & (1L << Card.DRAW_FOUR_ID)) != 0) {
+            actions |= 0xFL << DRAW_FOUR_ACTIONS;
+        }
+        return actions;
+    }
+
+    private static void apply(GameEngine engine, int action) {
+        if (action == DRAW_ACTION) {
+            engine.applyMove(-1, -1);
+        } else {
+            int cardIndex = engine.getPlayer(engine.getCurrentPlayerIndex()).indexOf(cardOf(action));
+            engine.applyMove(cardIndex, colorOf(action));
+        }
+    }
+
+    private static byte cardOf(int action) {
+        if (action < WILD_ACTIONS) {
+            return (byte) action;
+        }
+        return action < DRAW_FOUR_ACTIONS ? Card.WILD_ID : Card.DRAW_FOUR_ID;
+    }
+
+    private static int colorOf(int action) {
+        return action < WILD_ACTIONS ? -1 : (action - WILD_ACTIONS) & 3;
+    }
+
+    private static int randomBit(long mask, SplittableRandom random) {
+        for (int skip = random.nextInt(Long.bitCount(mask)); skip > 0; skip--) {
+            mask &= mask - 1;
+        }
+        return Long.numberOfTrailingZeros(mask);
+    }
+
+    private static final class Node {
+        final Node parent;
+        final int action;
+        // The seat that made the move leading here
+        final int player;
+        Node[] children;
+        long expanded;
+        int visits;
+        int wins;
+        // How often this node's move was legal when its parent was visited
+        int availability;
+
+        Node(Node parent, int action, int player) {
+            this.parent = parent;
+            this.action = action;
+            this.player = player;
+        }
+
+        Node expand(int action, int player) {
+            if (children == null) {
+                children = new Node[ACTION_COUNT];
+            }
+            Node child = new Node(this, action, player);
+            children[action] = child;
+            expanded |= 1L << action;
+            return child;
+        }
+
+        // UCB1 over the legal children, with availability counts in place of the parent's visits
+        Node select(long legal) {
+            Node best = null;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (long remaining = legal; remaining != 0; remaining &= remaining - 1) {
+                Node child = children[Long.numberOfTrailingZeros(remaining)];
+                child.availability++;
+                double score = (double) child.wins / child.visits
+                        + EXPLORATION * Math.sqrt(Math.log(child.availability) / child.visits);
+                if (score > bestScore) {
+                    best = child;
+                    bestScore = score;
+                }
+            }
+            return best;
+        }
+
+        void addVisitsTo(int[] visits) {
+            for (long remaining = expanded; remaining != 0; remaining &= remaining - 1) {
+                int action = Long.numberOfTrailingZeros(remaining);
+                visits[action] += children[action].visits;
+            }
+        }
+    }
+}
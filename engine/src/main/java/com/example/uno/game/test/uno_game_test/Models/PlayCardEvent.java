@@ -0,0 +1,26 @@
+package com.example.uno.game.test.uno_game_test.Models;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for one GameEngine.playCard, recorded while EngineMetrics.ENABLED.
+ */
+@Name("uno.PlayCard")
+@Label("Play Card")
+@Category({"Uno", "Engine"})
+@Description("A card played by the current player")
+final class PlayCardEvent extends Event {
+    @Label("Seat")
+    int seat;
+
+    @Label("Card")
+    String card;
+
+    @Label("Hand Size")
+    @Description("Cards left in the player's hand")
+    int handSize;
+}
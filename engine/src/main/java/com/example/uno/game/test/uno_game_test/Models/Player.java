@@ -0,0 +1,179 @@
+package com.example.uno.game.test.uno_game_test.Models;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+public class Player {
+    private String name;
+    // A hand can never hold more than the whole deck
+    private final byte[] hand = new byte[Deck.DECK_SIZE];
+    private int handSize;
+    // Copies of each card ID in the hand, and a bit per ID with a non-zero count
+    private final byte[] faceCounts = new byte[Card.FACE_COUNT];
+    private long faceMask;
+    // Cards of each Card.Color ordinal in the hand
+    private final int[] colorCounts = new int[Card.Color.values().length];
+    private final List<Card> handView = new HandView();
+    private boolean isComputer;
+    private Strategy strategy;
+
+    public Player(String name, boolean isComputer) {
+        this.name = name;
+        this.isComputer = isComputer;
+        this.strategy = GreedyStrategy.INSTANCE;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return A read-only view of the hand, backed by the card IDs
+     */
+    public List<Card> getHand() {
+        return handView;
+    }
+
+    public int getHandSize() {
+        return handSize;
+    }
+
+    public byte getCardId(int index) {
+        return hand[index];
+    }
+
+    /**
+     * @return A mask with bit (1L << id) set for every card ID in the hand
+     */
+    public long getFaceMask() {
+        return faceMask;
+    }
+
+    public int getFaceCount(byte cardId) {
+        return faceCounts[cardId];
+    }
+
+    public int getColorCount(int color) {
+        return colorCounts[color];
+    }
+
+    /**
+     * @return The first hand index holding the given card, or -1
+     */
+    public int indexOf(byte cardId) {
+        if ((faceMask & (1L << cardId)) != 0) {
+            for (int i = 0; i < handSize; i++) {
+                if (hand[i] == cardId) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    public boolean isComputer() {
+        return isComputer;
+    }
+
+    /**
+     * @return The strategy that picks this player's moves when the computer plays them
+     */
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    public void setStrategy(Strategy strategy) {
+        this.strategy = strategy;
+    }
+
+    // Hands change only through GameEngine, which keeps the winner and UNO state in step with them
+    void addCard(byte cardId) {
+        hand[handSize++] = cardId;
+        faceCounts[cardId]++;
+        faceMask |= 1L << cardId;
+        colorCounts[Card.colorOf(cardId)]++;
+    }
+
+    // Removes a card keeping the order of the remaining cards
+    byte removeCard(int index) {
+        byte cardId = hand[index];
+        handSize--;
+        System.arraycopy(hand, index + 1, hand, index, handSize - index);
+        if (--faceCounts[cardId] == 0) {
+            faceMask &= ~(1L << cardId);
+        }
+        colorCounts[Card.colorOf(cardId)]--;
+        return cardId;
+    }
+
+    /**
+     * Replaces the hand with count cards of source starting at offset.
+     */
+    void setHand(byte[] source, int offset, int count) {
+        clearHand();
+        for (int i = 0; i < count; i++) {
+            addCard(source[offset + i]);
+        }
+    }
+
+    /**
+     * Copies the hand (not the name or strategy) into target.
+     */
+    void copyHandInto(Player target) {
+        System.arraycopy(hand, 0, target.hand, 0, handSize);
+        target.handSize = handSize;
+        System.arraycopy(faceCounts, 0, target.faceCounts, 0, faceCounts.length);
+        System.arraycopy(colorCounts, 0, target.colorCounts, 0, colorCounts.length);
+        target.faceMask = faceMask;
+    }
+
+    void clearHand() {
+        handSize = 0;
+        Arrays.fill(faceCounts, (byte) 0);
+        Arrays.fill(colorCounts, 0);
+        faceMask = 0;
+    }
+
+    public boolean hasValidMove(Card topCard) {
+        return hasValidMove(topCard.getId(), Card.colorOf(topCard.getId()));
+    }
+
+    public boolean hasValidMove(byte topId, int currentColor) {
+        return (faceMask & Card.playableMask(topId, currentColor)) != 0;
+    }
+
+    /**
+     * @return A mask with bit (1L << id) set for every card ID in the hand that may be played
+     */
+    public long getPlayableMask(byte topId, int currentColor) {
+        return faceMask & Card.playableMask(topId, currentColor);
+    }
+
+    public boolean hasUno() {
+        return handSize == 1;
+    }
+
+    public boolean hasWon() {
+        return handSize == 0;
+    }
+
+    private class HandView extends AbstractList<Card> {
+        @Override
+        public Card get(int index) {
+            if (index >= handSize) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return Card.of(hand[index]);
+        }
+
+        @Override
+        public int size() {
+            return handSize;
+        }
+    }
+}
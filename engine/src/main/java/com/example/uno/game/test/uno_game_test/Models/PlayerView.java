@@ -0,0 +1,80 @@
+package com.example.uno.game.test.uno_game_test.Models;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Read-only view of the game from one player's seat, as seen by a Strategy.
+ * It shows the player's own hand, but only the sizes of the other hands.
+ * Cards are card IDs (see Card.of(byte)) and colors are Card.Color ordinals.
+ * Views returned by the engine are reused, so reading them allocates nothing.
+ */
+public interface PlayerView {
+
+    int getSeat();
+
+    int getNumPlayers();
+
+    boolean isClockwise();
+
+    /**
+     * @return The seat that plays after this one if nothing is skipped
+     */
+    int getNextSeat();
+
+    /**
+     * @return The number of cards held by any seat
+     */
+    int getHandSize(int seat);
+
+    byte getTopCard();
+
+    int getCurrentColor();
+
+    int getDrawPileSize();
+
+    // Own hand
+
+    int getHandSize();
+
+    byte getCard(int index);
+
+    /**
+     * @return The first hand index holding the given card, or -1
+     */
+    int indexOf(byte cardId);
+
+    int getCount(byte cardId);
+
+    /**
+     * @return The number of cards of the given color, counting wilds as Card.Color.WILD
+     */
+    int getColorCount(int color);
+
+    /**
+     * @return A mask with bit (1L << id) set for every card ID in the hand
+     */
+    long getHandMask();
+
+    /**
+     * @return A mask with bit (1L << id) set for every card ID in the hand that may be played now
+     */
+    long getPlayableMask();
+
+    /**
+     * @return The penalty cards this seat draws unless it stacks on them or challenges
+     *         (see RuleSet); 0 when no penalty is pending
+     */
+    int getPendingDraw();
+
+    /**
+     * Whether this seat may challenge the wild draw four played on it, with Strategy.CHALLENGE.
+     */
+    boolean canChallenge();
+
+    RuleSet getRules();
+
+    /**
+     * @return A random source that belongs to this game, for strategies that need one
+     */
+    RandomGenerator getRandom();
+}
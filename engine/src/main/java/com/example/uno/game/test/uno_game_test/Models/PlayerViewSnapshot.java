@@ -0,0 +1,165 @@
+package com.example.uno.game.test.uno_game_test.Models;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * A PlayerView copied out of a live game, so a strategy can run on another thread
+ * while the game goes on. The copy does not change when the game does.
+ */
+public final class PlayerViewSnapshot implements PlayerView {
+    private final int seat;
+    private final boolean clockwise;
+    private final int nextSeat;
+    private final int[] handSizes;
+    private final byte topCard;
+    private final int currentColor;
+    private final int drawPileSize;
+    private final byte[] hand;
+    private final int[] colorCounts = new int[Card.Color.values().length];
+    private final long handMask;
+    private final long playableMask;
+    private final int pendingDraw;
+    private final boolean canChallenge;
+    private final RuleSet rules;
+    private final RandomGenerator random;
+
+    private PlayerViewSnapshot(PlayerView view, RandomGenerator random) {
+        seat = view.getSeat();
+        clockwise = view.isClockwise();
+        nextSeat = view.getNextSeat();
+        handSizes = new int[view.getNumPlayers()];
+        for (int i = 0; i < handSizes.length; i++) {
+            handSizes[i] = view.getHandSize(i);
+        }
+        topCard = view.getTopCard();
+        currentColor = view.getCurrentColor();
+        drawPileSize = view.getDrawPileSize();
+        hand = new byte[view.getHandSize()];
+        for (int i = 0; i < hand.length; i++) {
+            hand[i] = view.getCard(i);
+        }
+        for (int color = 0; color < colorCounts.length; color++) {
+            colorCounts[color] = view.getColorCount(color);
+        }
+        handMask = view.getHandMask();
+        playableMask = view.getPlayableMask();
+        pendingDraw = view.getPendingDraw();
+        canChallenge = view.canChallenge();
+        rules = view.getRules();
+        this.random = random;
+    }
+
+    /**
+     * @param random Random source for the strategy. The live game's generator must not
+     *               be shared with another thread, so callers pass a split or new one.
+     */
+    public static PlayerViewSnapshot of(PlayerView view, RandomGenerator random) {
+        return new PlayerViewSnapshot(view, random);
+    }
+
+    @Override
+    public int getSeat() {
+        return seat;
+    }
+
+    @Override
+    public int getNumPlayers() {
+        return handSizes.length;
+    }
+
+    @Override
+    public boolean isClockwise() {
+        return clockwise;
+    }
+
+    @Override
+    public int getNextSeat() {
+        return nextSeat;
+    }
+
+    @Override
+    public int getHandSize(int seat) {
+        return handSizes[seat];
+    }
+
+    @Override
+    public byte getTopCard() {
+        return topCard;
+    }
+
+    @Override
+    public int getCurrentColor() {
+        return currentColor;
+    }
+
+    @Override
+    public int getDrawPileSize() {
+        return drawPileSize;
+    }
+
+    @Override
+    public int getHandSize() {
+        return hand.length;
+    }
+
+    @Override
+    public byte getCard(int index) {
+        return hand[index];
+    }
+
+    @Override
+    public int indexOf(byte cardId) {
+        for (int i = 0; i < hand.length; i++) {
+            if (hand[i] == cardId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int getCount(byte cardId) {
+        int count = 0;
+        for (byte card : hand) {
+            if (card == cardId) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int getColorCount(int color) {
+        return colorCounts[color];
+    }
+
+    @Override
+    public long getHandMask() {
+        return handMask;
+    }
+
+    @Override
+    public long getPlayableMask() {
+        return playableMask;
+    }
+
+    @Override
+    public int getPendingDraw() {
+        return pendingDraw;
+    }
+
+    @Override
+    public boolean canChallenge() {
+        return canChallenge;
+    }
+
+    @Override
+    public RuleSet getRules() {
+        return rules;
+    }
+
+    @Override
+    public RandomGenerator getRandom() {
+        return random;
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.uno.game.test.uno_game_test.Models;
+
+/**
+ * The optional house rules of a game, fixed when the game is created.
+ * GameEngine resolves them once into card masks, so variant games play as fast as standard ones.
+ *
+ * @param stacking          A player hit by a draw two may pass it on with a draw two or a wild draw four,
+ *                          and one hit by a wild draw four with a wild draw four; the first player who
+ *                          cannot or will not stack draws the total.
+ * @param jumpIn            A player holding the same colored card as the top card may play it out of turn,
+ *                          and play continues from them.
+ * @param drawUntilPlayable A player with nothing to play draws until they get a playable card,
+ *                          then plays on instead of passing.
+ * @param challengeDrawFour The player hit by a wild draw four may challenge it. If its player held a card
+ *                          of the current color, they draw the four cards instead and the challenger plays on;
+ *                          otherwise the challenger draws six.
+ */
+public record RuleSet(boolean stacking, boolean jumpIn, boolean drawUntilPlayable, boolean challengeDrawFour) {
+    public static final RuleSet STANDARD = new RuleSet(false, false, false, false);
+
+    // Bits of toFlags, as stored in game records and saved games
+    private static final int STACKING = 1;
+    private static final int JUMP_IN = 1 << 1;
+    private static final int DRAW_UNTIL_PLAYABLE = 1 << 2;
+    private static final int CHALLENGE_DRAW_FOUR = 1 << 3;
+    private static final int ALL_FLAGS = STACKING | JUMP_IN | DRAW_UNTIL_PLAYABLE | CHALLENGE_DRAW_FOUR;
+
+    public int toFlags() {
+        return (stacking ? STACKING : 0)
+                | (jumpIn ? JUMP_IN : 0)
+                | (drawUntilPlayable ? DRAW_UNTIL_PLAYABLE : 0)
+                | (challengeDrawFour ? CHALLENGE_DRAW_FOUR : 0);
+    }
+
+    public static RuleSet fromFlags(int flags) {
+        if ((flags & ~ALL_FLAGS) != 0) {
+            throw new IllegalArgumentException("Unknown rule flags: 0x" + Integer.toHexString(flags));
+        }
+        return new RuleSet((flags & STACKING) != 0, (flags & JUMP_IN) != 0,
+                (flags & DRAW_UNTIL_PLAYABLE) != 0, (flags & CHALLENGE_DRAW_FOUR) != 0);
+    }
+
+    /**
+     * @param names Comma-separated rule names: stacking, jump-in, draw-until-playable and
+     *              challenge-draw-four. An empty string or "standard" means no house rules.
+     */
+    public static RuleSet byNames(String names) {
+        int flags = 0;
+        for (String name : names.split(",")) {
+            flags |= switch (name.trim()) {
+                case "", "standard" -> 0;
+                case "stacking" -> STACKING;
+                case "jump-in" -> JUMP_IN;
+                case "draw-until-playable" -> DRAW_UNTIL_PLAYABLE;
+                case "challenge-draw-four" -> CHALLENGE_DRAW_FOUR;
+                default -> throw new IllegalArgumentException("Unknown rule: " + name);
+            };
+        }
+        return fromFlags(flags);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.uno.game.test.uno_game_test.Models;
+
+/**
+ * Decides the moves of a computer player.
+ * Strategies are called for every computer turn, including millions of times per second
+ * in headless simulation, so implementations should not allocate or keep per-game state.
+ * The built-in strategies are stateless and can be shared between players and threads.
+ */
+public interface Strategy {
+    /**
+     * Returned by chooseCard to challenge a wild draw four, when PlayerView.canChallenge allows it.
+     */
+    int CHALLENGE = -2;
+
+    /**
+     * Chooses the card to play. Returning -1, or a card that may not be played,
+     * makes the player draw a card and end their turn instead.
+     * @return A hand index, -1 to draw, or CHALLENGE
+     */
+    int chooseCard(PlayerView view);
+
+    /**
+     * Chooses the color for a wild card returned by chooseCard.
+     * The wild card is still in the hand when this is called.
+     * @return A Card.Color ordinal other than WILD
+     */
+    int chooseColor(PlayerView view);
+
+    /**
+     * @return The built-in strategy with the given name: greedy, color-majority, heuristic,
+     *         or ismcts (a search that thinks for IsmctsStrategy.DEFAULT_BUDGET_MILLIS per move on all cores)
+     */
+    static Strategy byName(String name) {
+        return switch (name) {
+            case "greedy" -> GreedyStrategy.INSTANCE;
+            case "color-majority" -> ColorMajorityStrategy.INSTANCE;
+            case "heuristic" -> HeuristicStrategy.INSTANCE;
+            case "ismcts" -> new IsmctsStrategy(IsmctsStrategy.DEFAULT_BUDGET_MILLIS,
+                    Runtime.getRuntime().availableProcessors());
+            default -> throw new IllegalArgumentException("Unknown strategy: " + name);
+        };
+    }
+}
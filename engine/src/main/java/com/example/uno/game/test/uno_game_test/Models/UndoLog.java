@@ -0,0 +1,57 @@
+package com.example.uno.game.test.uno_game_test.Models;
+
+/**
+ * The states before the most recent moves of a GameEngine, oldest dropped first.
+ * All states are allocated up front, so recording a move only copies arrays.
+ */
+final class UndoLog {
+    private final GameState[] states;
+    private int newest = -1;
+    private int size;
+
+    UndoLog(int numPlayers, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Undo log needs room for at least one move");
+        }
+        states = new GameState[capacity];
+        for (int i = 0; i < capacity; i++) {
+            states[i] = new GameState(numPlayers);
+        }
+    }
+
+    /**
+     * @return The state to fill in for the next recorded move
+     */
+    GameState push() {
+        newest = newest + 1 == states.length ? 0 : newest + 1;
+        if (size < states.length) {
+            size++;
+        }
+        return states[newest];
+    }
+
+    /**
+     * @return The state before the most recent recorded move, or null if none are left
+     */
+    GameState pop() {
+        if (size == 0) {
+            return null;
+        }
+        GameState state = states[newest];
+        newest = newest == 0 ? states.length - 1 : newest - 1;
+        size--;
+        return state;
+    }
+
+    int capacity() {
+        return states.length;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        size = 0;
+    }
+}
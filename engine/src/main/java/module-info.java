@@ -0,0 +1,10 @@
+/**
+ * The Uno rules, engine and computer strategies, free of any UI.
+ * Needs nothing beyond java.base and jdk.jfr (for the engine's JFR events), so a jlink'd
+ * runtime holding only these modules can run it.
+ */
+module com.example.uno.game.test.uno_game_test.engine {
+    requires jdk.jfr;
+
+    exports com.example.uno.game.test.uno_game_test.Models;
+}
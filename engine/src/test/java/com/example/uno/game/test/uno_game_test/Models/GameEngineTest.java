@@ -0,0 +1,50 @@
+package com.example.uno.game.test.uno_game_test.Models;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class GameEngineTest {
+    @Test
+    void largestTableIsDealtAFullHand() {
+        for (long seed = 0; seed < 5000; seed++) {
+            GameEngine engine = new GameEngine(GameEngine.MAX_DEALT_PLAYERS, seed);
+            for (int seat = 0; seat < engine.getNumPlayers(); seat++) {
+                assertEquals(GameEngine.INITIAL_HAND_SIZE, engine.getHandSize(seat));
+            }
+            assertNotEquals(Card.Color.WILD.ordinal(), Card.colorOf(engine.getTopCard()));
+        }
+    }
+
+    @Test
+    void tablesTheDeckCannotDealAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new GameEngine(GameEngine.MIN_PLAYERS - 1, 1L));
+        assertThrows(IllegalArgumentException.class, () -> new GameEngine(GameEngine.MAX_DEALT_PLAYERS + 1, 1L));
+        assertThrows(IllegalArgumentException.class, () -> new GameEngine(GameEngine.MAX_PLAYERS, 1L));
+    }
+
+    @Test
+    void cardOutsideTheHandIsNeverPlayed() {
+        SplittableRandom random = new SplittableRandom(9);
+        for (long seed = 0; seed < 2000; seed++) {
+            GameEngine engine = new GameEngine(4, seed);
+            for (int moves = 0; moves < 10 && !engine.isGameOver(); moves++) {
+                TestGames.playMove(engine, random);
+            }
+            GameState before = TestGames.stateOf(engine);
+            int handSize = engine.getHandSize(engine.getCurrentPlayerIndex());
+
+            assertFalse(engine.canPlay(-1));
+            assertFalse(engine.canPlay(handSize));
+            assertFalse(engine.playCard(-1));
+            assertFalse(engine.playCard(handSize));
+            assertFalse(engine.playCard(handSize, 0));
+            TestGames.assertSameState(before, TestGames.stateOf(engine));
+        }
+    }
+}
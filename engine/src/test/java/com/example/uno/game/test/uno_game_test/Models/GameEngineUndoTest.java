@@ -0,0 +1,58 @@
+package com.example.uno.game.test.uno_game_test.Models;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class GameEngineUndoTest {
+    private static final int CAPACITY = 8;
+
+    @Test
+    void undoRestoresTheStateBeforeEachMove() {
+        for (int flags = 0; flags < 16; flags++) {
+            RuleSet rules = RuleSet.fromFlags(flags);
+            SplittableRandom random = new SplittableRandom(flags);
+            for (int game = 0; game < 20; game++) {
+                GameEngine engine = new GameEngine(4, random.nextLong(), rules);
+                engine.setUndoCapacity(CAPACITY);
+                for (int moves = 0; moves < 500 && !engine.isGameOver(); moves++) {
+                    GameState before = TestGames.stateOf(engine);
+                    TestGames.playMove(engine, random);
+                    GameState after = TestGames.stateOf(engine);
+
+                    assertTrue(engine.undo());
+                    TestGames.assertSameState(before, TestGames.stateOf(engine));
+                    engine.restoreState(after);
+                }
+            }
+        }
+    }
+
+    @Test
+    void undoWalksBackThroughTheLatestMoves() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int flags = 0; flags < 16; flags++) {
+            GameEngine engine = new GameEngine(4, random.nextLong(), RuleSet.fromFlags(flags));
+            engine.setUndoCapacity(CAPACITY);
+            Deque<GameState> history = new ArrayDeque<>();
+            for (int moves = 0; moves < 3 * CAPACITY && !engine.isGameOver(); moves++) {
+                history.push(TestGames.stateOf(engine));
+                if (history.size() > CAPACITY) {
+                    history.removeLast();
+                }
+                TestGames.playMove(engine, random);
+            }
+
+            while (!history.isEmpty()) {
+                assertTrue(engine.undo());
+                TestGames.assertSameState(history.pop(), TestGames.stateOf(engine));
+            }
+            assertFalse(engine.undo(), "only the latest " + CAPACITY + " moves can be undone");
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.uno.game.test.uno_game_test.Models;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class GameRecordTest {
+    @Test
+    void replayEndsInTheRecordedState() throws IOException {
+        SplittableRandom random = new SplittableRandom(7);
+        for (int flags = 0; flags < 16; flags++) {
+            RuleSet rules = RuleSet.fromFlags(flags);
+            for (int game = 0; game < 20; game++) {
+                int numPlayers = 2 + random.nextInt(5);
+                long seed = random.nextLong();
+                GameEngine engine = new GameEngine(numPlayers, seed, rules);
+                engine.setUndoCapacity(4);
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                GameRecordWriter writer = new GameRecordWriter(out);
+                engine.startRecording(writer);
+
+                for (int moves = 0; moves < 500 && !engine.isGameOver(); moves++) {
+                    if (engine.canUndo() && random.nextInt(8) == 0) {
+                        engine.undo();
+                    } else {
+                        TestGames.playMove(engine, random);
+                    }
+                }
+                writer.close();
+                assertFalse(writer.hasFailed());
+                assertEquals(out.size(), writer.getBytesWritten());
+
+                try (GameRecordReader reader = new GameRecordReader(new ByteArrayInputStream(out.toByteArray()))) {
+                    assertEquals(seed, reader.getSeed());
+                    assertEquals(numPlayers, reader.getNumPlayers());
+                    assertEquals(rules, reader.getRules());
+                    Game replayed = reader.replay();
+                    TestGames.assertSameState(TestGames.stateOf(engine), TestGames.stateOf(replayed.getEngine()));
+                }
+            }
+        }
+    }
+
+    @Test
+    void replayIntoReusesOneEngine() throws IOException {
+        RuleSet rules = RuleSet.fromFlags(0b1111);
+        GameEngine engine = new GameEngine(4, 1L, rules);
+        GameEngine replayEngine = new GameEngine(4, 2L, rules);
+        SplittableRandom random = new SplittableRandom(3);
+        for (long seed = 0; seed < 10; seed++) {
+            engine.reset(seed);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            GameRecordWriter writer = new GameRecordWriter(out);
+            engine.startRecording(writer);
+            for (int moves = 0; moves < 500 && !engine.isGameOver(); moves++) {
+                TestGames.playMove(engine, random);
+            }
+            writer.close();
+
+            GameRecordReader reader = new GameRecordReader(new ByteArrayInputStream(out.toByteArray()));
+            assertEquals(writer.getMoveCount(), reader.replayInto(replayEngine));
+            TestGames.assertSameState(TestGames.stateOf(engine), TestGames.stateOf(replayEngine));
+        }
+    }
+
+    @Test
+    void truncatedRecordIsRejected() throws IOException {
+        GameEngine engine = new GameEngine(4, 5L);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        GameRecordWriter writer = new GameRecordWriter(out);
+        engine.startRecording(writer);
+        for (int i = 0; i < 10 && !engine.isGameOver(); i++) {
+            engine.playTurn(GreedyStrategy.INSTANCE);
+        }
+        writer.close();
+
+        byte[] record = out.toByteArray();
+        GameRecordReader reader = new GameRecordReader(new ByteArrayInputStream(Arrays.copyOf(record, record.length - 1)));
+        assertThrows(EOFException.class, reader::replay);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.uno.game.test.uno_game_test.Models;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class GameSaveCodecTest {
+    @Test
+    void decodedGameEncodesToTheSameBytes() throws IOException {
+        SplittableRandom random = new SplittableRandom(11);
+        for (int flags = 0; flags < 16; flags++) {
+            RuleSet rules = RuleSet.fromFlags(flags);
+            for (int game = 0; game < 20; game++) {
+                Game original = new Game(2 + random.nextInt(5), random.nextLong(), rules);
+                original.getPlayers().get(0).setName("Zoë " + game);
+                GameEngine engine = original.getEngine();
+                // Save at the start, part way through and at the end of the game
+                for (int moves = 0; moves < 500; moves++) {
+                    if (moves % 25 == 0 || engine.isGameOver()) {
+                        assertRoundTrip(original, rules);
+                    }
+                    if (engine.isGameOver()) {
+                        break;
+                    }
+                    TestGames.playMove(engine, random);
+                }
+            }
+        }
+    }
+
+    @Test
+    void damagedSaveIsRejected() {
+        byte[] save = GameSaveCodec.encode(new Game(4, 3L));
+        for (int i = 0; i < save.length; i++) {
+            byte[] damaged = save.clone();
+            damaged[i] ^= 0x10;
+            assertThrows(IOException.class, () -> GameSaveCodec.decode(ByteBuffer.wrap(damaged)), "byte " + i);
+        }
+        byte[] truncated = Arrays.copyOf(save, save.length - 1);
+        assertThrows(IOException.class, () -> GameSaveCodec.decode(ByteBuffer.wrap(truncated)));
+    }
+
+    private static void assertRoundTrip(Game original, RuleSet rules) throws IOException {
+        byte[] save = GameSaveCodec.encode(original);
+        Game decoded = GameSaveCodec.decode(ByteBuffer.wrap(save));
+
+        assertEquals(rules, decoded.getRules());
+        for (int i = 0; i < original.getPlayers().size(); i++) {
+            assertEquals(original.getPlayers().get(i).getName(), decoded.getPlayers().get(i).getName());
+        }
+        TestGames.assertSameState(TestGames.stateOf(original.getEngine()), TestGames.stateOf(decoded.getEngine()));
+        assertArrayEquals(save, GameSaveCodec.encode(decoded));
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.uno.game.test.uno_game_test.Models;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Shared helpers for the engine tests: playing varied moves and comparing whole game states.
+ */
+final class TestGames {
+    private TestGames() {
+    }
+
+    /**
+     * Plays exactly one move, mixing strategy turns with the moves a strategy never makes
+     * on its own: challenges, jump-ins, draws that keep the turn and plain passes.
+     */
+    static void playMove(GameEngine engine, RandomGenerator random) {
+        RuleSet rules = engine.getRules();
+        if (rules.challengeDrawFour() && engine.canChallenge() && random.nextBoolean()) {
+            engine.challenge();
+            return;
+        }
+        if (rules.jumpIn() && random.nextInt(4) == 0) {
+            int seat = random.nextInt(engine.getNumPlayers());
+            for (int i = 0; i < engine.getHandSize(seat); i++) {
+                if (engine.canJumpIn(seat, i)) {
+                    engine.jumpIn(seat, i);
+                    return;
+                }
+            }
+        }
+        // Kept to turns without a penalty, where drawCard and nextPlayer are moves of their own
+        int choice = engine.getPendingDraw() == 0 ? random.nextInt(10) : -1;
+        if (choice == 0) {
+            engine.drawCard();
+            return;
+        }
+        if (choice == 1) {
+            engine.nextPlayer();
+            return;
+        }
+        engine.playTurn(GreedyStrategy.INSTANCE);
+    }
+
+    static GameState stateOf(GameEngine engine) {
+        GameState state = new GameState(engine.getNumPlayers());
+        engine.saveState(state);
+        return state;
+    }
+
+    /**
+     * Compares everything that decides how the game goes on: the piles in order, every hand
+     * in order and the turn state. Slots of the deck ring outside the piles are ignored.
+     */
+    static void assertSameState(GameState expected, GameState actual) {
+        assertEquals(expected.getNumPlayers(), actual.getNumPlayers(), "players");
+        assertArrayEquals(piles(expected), piles(actual), "discard and draw piles");
+        assertEquals(expected.discardSize, actual.discardSize, "discard pile size");
+        assertArrayEquals(expected.handSizes, actual.handSizes, "hand sizes");
+        int handCards = Arrays.stream(expected.handSizes).sum();
+        assertArrayEquals(Arrays.copyOf(expected.handCards, handCards), Arrays.copyOf(actual.handCards, handCards),
+                "hands");
+        assertEquals(expected.currentPlayer, actual.currentPlayer, "current player");
+        assertEquals(expected.clockwise, actual.clockwise, "direction");
+        assertEquals(expected.currentColor, actual.currentColor, "current color");
+        assertEquals(expected.winner, actual.winner, "winner");
+        assertEquals(expected.unoMask, actual.unoMask, "UNO mask");
+        assertEquals(expected.pendingDraw, actual.pendingDraw, "pending penalty");
+        assertEquals(expected.challengeSeat, actual.challengeSeat, "challengeable seat");
+        assertEquals(expected.bluffed, actual.bluffed, "bluffed");
+    }
+
+    // The discard pile from its top down, then the draw pile from its bottom up
+    private static byte[] piles(GameState state) {
+        byte[] piles = new byte[state.discardSize + state.drawSize];
+        int first = state.deckBottom - state.discardSize;
+        for (int i = 0; i < piles.length; i++) {
+            piles[i] = state.deckCards[Math.floorMod(first + i, Deck.DECK_SIZE)];
+        }
+        return piles;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.uno.game.test.uno_game_test.Archive;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Layout of the three files of a game archive directory.
+ *
+ * records.bin  Game records (see GameRecordWriter) back to back. A record never crosses
+ *              a 1 GiB boundary, so each can be read from a single mapped chunk.
+ * index.bin    Header: "UNOI", version (4 bytes), game count (8).
+ *              Then one 16-byte entry per game ID: record offset (8), record length (4),
+ *              winner (1, 0xFF if unfinished), players (1), moves (2, saturating).
+ * buckets.bin  Written when the writer closes. Header: "UNOB", version (4), game count (8),
+ *              game count per winner bucket (8 each), then per length bucket (8 each).
+ *              Then the game IDs (4 bytes each) of every winner bucket, then every length bucket.
+ *              Winner bucket 0 is unfinished games and bucket w + 1 is winner w;
+ *              length bucket b holds games of [b * 16, b * 16 + 16) moves, the last one everything longer.
+ * All numbers are big-endian.
+ */
+final class ArchiveFormat {
+    static final String RECORDS_FILE = "records.bin";
+    static final String INDEX_FILE = "index.bin";
+    static final String BUCKETS_FILE = "buckets.bin";
+
+    static final int INDEX_MAGIC = 0x554E4F49; // "UNOI"
+    static final int BUCKETS_MAGIC = 0x554E4F42; // "UNOB"
+    static final int VERSION = 1;
+
+    static final int INDEX_HEADER_SIZE = 16;
+    static final int INDEX_ENTRY_SIZE = 16;
+    static final int NO_WINNER = 0xFF;
+    static final int MAX_MOVES = 0xFFFF;
+
+    static final int WINNER_BUCKETS = 65;
+    static final int LENGTH_BUCKETS = 64;
+    static final int LENGTH_BUCKET_WIDTH = 16;
+    static final int BUCKETS_HEADER_SIZE = 16 + 8 * (WINNER_BUCKETS + LENGTH_BUCKETS);
+
+    // Files are mapped in chunks of this size, since one mapping is limited to 2 GiB
+    static final int CHUNK_SHIFT = 30;
+    static final long CHUNK_SIZE = 1L << CHUNK_SHIFT;
+
+    private ArchiveFormat() {
+    }
+
+    static long indexPosition(long gameId) {
+        return INDEX_HEADER_SIZE + gameId * INDEX_ENTRY_SIZE;
+    }
+
+    static int winnerBucket(int winner) {
+        return winner < 0 ? 0 : winner + 1;
+    }
+
+    static int lengthBucket(int moves) {
+        return Math.min(moves / LENGTH_BUCKET_WIDTH, LENGTH_BUCKETS - 1);
+    }
+
+    /**
+     * Maps the first size bytes of a file as consecutive chunks of CHUNK_SIZE.
+     */
+    static MappedByteBuffer[] map(FileChannel channel, FileChannel.MapMode mode, long size) throws IOException {
+        MappedByteBuffer[] chunks = new MappedByteBuffer[(int) ((size + CHUNK_SIZE - 1) >>> CHUNK_SHIFT)];
+        for (int i = 0; i < chunks.length; i++) {
+            long start = (long) i << CHUNK_SHIFT;
+            chunks[i] = channel.map(mode, start, Math.min(CHUNK_SIZE, size - start));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,234 @@
+package com.example.uno.game.test.uno_game_test.Archive;
+
+import com.example.uno.game.test.uno_game_test.Models.GameEngine;
+import com.example.uno.game.test.uno_game_test.Models.GameRecordReader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static com.example.uno.game.test.uno_game_test.Archive.ArchiveFormat.*;
+
+/**
+ * Memory-maps an archive written by GameArchiveWriter for scans and random access by game ID.
+ * Index queries read the mapped files directly and allocate nothing; getRecord returns
+ * a view of the mapped record, so records are never copied.
+ * Sees the games flushed before it was opened. Safe to share between threads.
+ */
+public final class GameArchiveReader implements Closeable {
+    public static final int LENGTH_BUCKET_WIDTH = ArchiveFormat.LENGTH_BUCKET_WIDTH;
+    public static final int LENGTH_BUCKETS = ArchiveFormat.LENGTH_BUCKETS;
+
+    private final MappedByteBuffer[] records;
+    private final MappedByteBuffer[] index;
+    private final long gameCount;
+
+    // Null if the bucket index is missing or older than the game index
+    private final MappedByteBuffer[] buckets;
+    private final long[] winnerStarts = new long[WINNER_BUCKETS + 1];
+    private final long[] lengthStarts = new long[LENGTH_BUCKETS + 1];
+
+    private GameArchiveReader(Path directory) throws IOException {
+        try (FileChannel indexChannel = FileChannel.open(directory.resolve(INDEX_FILE), StandardOpenOption.READ);
+             FileChannel recordsChannel = FileChannel.open(directory.resolve(RECORDS_FILE), StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(INDEX_HEADER_SIZE);
+            while (header.hasRemaining() && indexChannel.read(header) >= 0) {
+                // Keep reading until the header is complete
+            }
+            header.flip();
+            if (header.remaining() < INDEX_HEADER_SIZE || header.getInt() != INDEX_MAGIC) {
+                throw new IOException("Not a game archive index: " + directory.resolve(INDEX_FILE));
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported game archive version " + version);
+            }
+            gameCount = header.getLong();
+            index = map(indexChannel, FileChannel.MapMode.READ_ONLY, indexPosition(gameCount));
+            records = map(recordsChannel, FileChannel.MapMode.READ_ONLY, recordsChannel.size());
+        }
+        buckets = mapBuckets(directory.resolve(BUCKETS_FILE));
+    }
+
+    public static GameArchiveReader open(Path directory) throws IOException {
+        return new GameArchiveReader(directory);
+    }
+
+    public long size() {
+        return gameCount;
+    }
+
+    public long getOffset(long gameId) {
+        return entryChunk(gameId).getLong(entryPosition(gameId));
+    }
+
+    public int getLength(long gameId) {
+        return entryChunk(gameId).getInt(entryPosition(gameId) + 8);
+    }
+
+    /**
+     * @return The winning seat, or -1 if the game did not finish
+     */
+    public int getWinner(long gameId) {
+        int winner = entryChunk(gameId).get(entryPosition(gameId) + 12) & 0xFF;
+        return winner == NO_WINNER ? -1 : winner;
+    }
+
+    public int getNumPlayers(long gameId) {
+        return entryChunk(gameId).get(entryPosition(gameId) + 13) & 0xFF;
+    }
+
+    /**
+     * @return The number of moves, saturating at 65535
+     */
+    public int getMoves(long gameId) {
+        return entryChunk(gameId).getShort(entryPosition(gameId) + 14) & 0xFFFF;
+    }
+
+    /**
+     * @return A read-only view of the game's record in the mapped archive
+     */
+    public ByteBuffer getRecord(long gameId) {
+        long offset = getOffset(gameId);
+        MappedByteBuffer chunk = records[(int) (offset >>> CHUNK_SHIFT)];
+        return chunk.slice((int) (offset & (CHUNK_SIZE - 1)), getLength(gameId)).asReadOnlyBuffer();
+    }
+
+    /**
+     * Replays the game on engine, which must have the game's number of players.
+     * @return The number of moves played
+     */
+    public int replayInto(long gameId, GameEngine engine) throws IOException {
+        return new GameRecordReader(getRecord(gameId)).replayInto(engine);
+    }
+
+    /**
+     * @return Whether the winner and length buckets cover every game in the archive
+     */
+    public boolean hasBuckets() {
+        return buckets != null;
+    }
+
+    /**
+     * @param winner A seat, or -1 for unfinished games
+     */
+    public long countByWinner(int winner) {
+        requireBuckets();
+        return bucketSize(winnerStarts, checkedWinnerBucket(winner));
+    }
+
+    /**
+     * @return The ID of the i-th game, in ID order, won by the given seat (or -1 for unfinished)
+     */
+    public long getGameByWinner(int winner, long i) {
+        requireBuckets();
+        return bucketGame(winnerStarts, checkedWinnerBucket(winner), i);
+    }
+
+    /**
+     * @return The bucket holding games with the given number of moves
+     */
+    public static int lengthBucketOf(int moves) {
+        return lengthBucket(moves);
+    }
+
+    public long countByLength(int bucket) {
+        requireBuckets();
+        return bucketSize(lengthStarts, checkedLengthBucket(bucket));
+    }
+
+    /**
+     * @return The ID of the i-th game, in ID order, in the given length bucket
+     */
+    public long getGameByLength(int bucket, long i) {
+        requireBuckets();
+        return bucketGame(lengthStarts, checkedLengthBucket(bucket), i);
+    }
+
+    /**
+     * The files are closed as soon as they are mapped, and the mappings are released
+     * once the reader is no longer reachable, so there is nothing to do here.
+     */
+    @Override
+    public void close() {
+    }
+
+    private MappedByteBuffer entryChunk(long gameId) {
+        if (gameId < 0 || gameId >= gameCount) {
+            throw new IndexOutOfBoundsException("Game " + gameId + " of " + gameCount);
+        }
+        return index[(int) (indexPosition(gameId) >>> CHUNK_SHIFT)];
+    }
+
+    private static int entryPosition(long gameId) {
+        return (int) (indexPosition(gameId) & (CHUNK_SIZE - 1));
+    }
+
+    private static long bucketSize(long[] starts, int bucket) {
+        return (starts[bucket + 1] - starts[bucket]) / 4;
+    }
+
+    private long bucketGame(long[] starts, int bucket, long i) {
+        long count = bucketSize(starts, bucket);
+        if (i < 0 || i >= count) {
+            throw new IndexOutOfBoundsException("Game " + i + " of " + count + " in bucket " + bucket);
+        }
+        long position = starts[bucket] + 4 * i;
+        return buckets[(int) (position >>> CHUNK_SHIFT)].getInt((int) (position & (CHUNK_SIZE - 1))) & 0xFFFFFFFFL;
+    }
+
+    private static int checkedWinnerBucket(int winner) {
+        if (winner < -1 || winner >= WINNER_BUCKETS - 1) {
+            throw new IndexOutOfBoundsException("Seat " + winner + " of " + (WINNER_BUCKETS - 1));
+        }
+        return winnerBucket(winner);
+    }
+
+    private static int checkedLengthBucket(int bucket) {
+        if (bucket < 0 || bucket >= LENGTH_BUCKETS) {
+            throw new IndexOutOfBoundsException("Length bucket " + bucket + " of " + LENGTH_BUCKETS);
+        }
+        return bucket;
+    }
+
+    private void requireBuckets() {
+        if (buckets == null) {
+            throw new IllegalStateException("Bucket index is missing or out of date; close the archive writer to rebuild it");
+        }
+    }
+
+    private MappedByteBuffer[] mapBuckets(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < BUCKETS_HEADER_SIZE) {
+                return null;
+            }
+            MappedByteBuffer[] chunks = map(channel, FileChannel.MapMode.READ_ONLY, channel.size());
+            MappedByteBuffer header = chunks[0];
+            if (header.getInt(0) != BUCKETS_MAGIC || header.getInt(4) != VERSION || header.getLong(8) != gameCount) {
+                return null;
+            }
+
+            long position = BUCKETS_HEADER_SIZE;
+            int at = 16;
+            for (int bucket = 0; bucket < WINNER_BUCKETS; bucket++, at += 8) {
+                winnerStarts[bucket] = position;
+                position += 4 * header.getLong(at);
+            }
+            winnerStarts[WINNER_BUCKETS] = position;
+            for (int bucket = 0; bucket < LENGTH_BUCKETS; bucket++, at += 8) {
+                lengthStarts[bucket] = position;
+                position += 4 * header.getLong(at);
+            }
+            lengthStarts[LENGTH_BUCKETS] = position;
+            return chunks;
+        }
+    }
+}
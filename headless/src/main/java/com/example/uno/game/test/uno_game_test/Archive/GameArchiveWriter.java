@@ -0,0 +1,288 @@
+package com.example.uno.game.test.uno_game_test.Archive;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static com.example.uno.game.test.uno_game_test.Archive.ArchiveFormat.*;
+
+/**
+ * Appends game records to an archive directory (see ArchiveFormat).
+ * Records and index entries are buffered and written through FileChannel; flush() makes
+ * everything appended so far visible to readers, and close() also rebuilds the bucket index.
+ * Reopening an archive continues after its last flushed game and drops anything after it.
+ * Safe to share between threads.
+ */
+public final class GameArchiveWriter implements Closeable {
+    private static final int RECORD_BUFFER_SIZE = 1 << 20;
+    private static final int INDEX_BUFFER_SIZE = 1 << 16;
+    // Offset of the player count in a game record header
+    private static final int RECORD_PLAYERS_OFFSET = 13;
+
+    private final Path directory;
+    private final FileChannel records;
+    private final FileChannel index;
+
+    private final ByteBuffer recordBuffer = ByteBuffer.allocateDirect(RECORD_BUFFER_SIZE);
+    private final ByteBuffer indexBuffer = ByteBuffer.allocateDirect(INDEX_BUFFER_SIZE);
+    // File offset of recordBuffer's first byte, and the first game ID in indexBuffer
+    private long recordBufferStart;
+    private long indexBufferStart;
+    private long gameCount;
+    private boolean closed;
+
+    private GameArchiveWriter(Path directory, FileChannel records, FileChannel index) {
+        this.directory = directory;
+        this.records = records;
+        this.index = index;
+    }
+
+    /**
+     * Opens the archive in directory for appending, creating it if needed.
+     */
+    public static GameArchiveWriter open(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        FileChannel records = FileChannel.open(directory.resolve(RECORDS_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        FileChannel index = FileChannel.open(directory.resolve(INDEX_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        GameArchiveWriter writer = new GameArchiveWriter(directory, records, index);
+        try {
+            writer.recover();
+        } catch (IOException | RuntimeException e) {
+            records.close();
+            index.close();
+            throw e;
+        }
+        return writer;
+    }
+
+    // Continues after the last game the header counts, dropping anything written after it
+    private void recover() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(INDEX_HEADER_SIZE);
+        if (index.size() < INDEX_HEADER_SIZE) {
+            gameCount = 0;
+            writeIndexHeader();
+        } else {
+            readFully(index, header, 0);
+            header.flip();
+            if (header.getInt() != INDEX_MAGIC) {
+                throw new IOException("Not a game archive index: " + directory.resolve(INDEX_FILE));
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported game archive version " + version);
+            }
+            gameCount = header.getLong();
+        }
+        index.truncate(indexPosition(gameCount));
+
+        long recordsEnd = 0;
+        if (gameCount > 0) {
+            ByteBuffer entry = ByteBuffer.allocate(INDEX_ENTRY_SIZE);
+            readFully(index, entry, indexPosition(gameCount - 1));
+            entry.flip();
+            recordsEnd = entry.getLong() + entry.getInt();
+        }
+        records.truncate(recordsEnd);
+        recordBufferStart = recordsEnd;
+        indexBufferStart = gameCount;
+    }
+
+    /**
+     * Appends one record, from its position to its limit, leaving its position unchanged.
+     * @param winner The winning seat, or -1 if the game did not finish
+     * @param moves  The number of moves, as counted by GameRecordWriter.getMoveCount
+     * @return The new game's ID; IDs count up from 0 in append order
+     */
+    public synchronized long append(ByteBuffer record, int winner, int moves) throws IOException {
+        if (closed) {
+            throw new IllegalStateException("Archive writer is closed");
+        }
+        if (gameCount == Integer.MAX_VALUE) {
+            throw new IllegalStateException("Archive is full");
+        }
+        int length = record.remaining();
+        if (length <= RECORD_PLAYERS_OFFSET || length > CHUNK_SIZE) {
+            throw new IllegalArgumentException("Not a game record: " + length + " bytes");
+        }
+        int numPlayers = record.get(record.position() + RECORD_PLAYERS_OFFSET) & 0xFF;
+
+        // Records never cross a chunk boundary; skip to the next chunk instead
+        long offset = recordBufferStart + recordBuffer.position();
+        long chunkEnd = ((offset >>> CHUNK_SHIFT) + 1) << CHUNK_SHIFT;
+        if (offset + length > chunkEnd) {
+            flushRecords();
+            recordBufferStart = chunkEnd;
+            offset = chunkEnd;
+        }
+
+        if (length > recordBuffer.remaining()) {
+            flushRecords();
+        }
+        if (length > recordBuffer.remaining()) {
+            // Larger than the whole buffer, so write it directly
+            writeFully(records, record.duplicate(), offset);
+            recordBufferStart += length;
+        } else {
+            recordBuffer.put(record.duplicate());
+        }
+
+        if (indexBuffer.remaining() < INDEX_ENTRY_SIZE) {
+            flushRecords();
+            flushIndex();
+        }
+        indexBuffer.putLong(offset)
+                .putInt(length)
+                .put((byte) (winner < 0 ? NO_WINNER : winner))
+                .put((byte) numPlayers)
+                .putShort((short) Math.min(moves, MAX_MOVES));
+        return gameCount++;
+    }
+
+    /**
+     * @return The number of games in the archive, including those not flushed yet
+     */
+    public synchronized long size() {
+        return gameCount;
+    }
+
+    /**
+     * Writes everything appended so far and updates the game count readers see.
+     */
+    public synchronized void flush() throws IOException {
+        flushRecords();
+        flushIndex();
+        writeIndexHeader();
+    }
+
+    /**
+     * Flushes, rebuilds the winner and length buckets, and closes the files.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        try {
+            flush();
+            records.force(false);
+            index.force(false);
+            writeBuckets();
+        } finally {
+            closed = true;
+            records.close();
+            index.close();
+        }
+    }
+
+    private void flushRecords() throws IOException {
+        recordBuffer.flip();
+        long written = recordBuffer.remaining();
+        writeFully(records, recordBuffer, recordBufferStart);
+        recordBufferStart += written;
+        recordBuffer.clear();
+    }
+
+    private void flushIndex() throws IOException {
+        indexBuffer.flip();
+        long entries = indexBuffer.remaining() / INDEX_ENTRY_SIZE;
+        writeFully(index, indexBuffer, indexPosition(indexBufferStart));
+        indexBufferStart += entries;
+        indexBuffer.clear();
+    }
+
+    private void writeIndexHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(INDEX_HEADER_SIZE);
+        header.putInt(INDEX_MAGIC).putInt(VERSION).putLong(gameCount).flip();
+        writeFully(index, header, 0);
+    }
+
+    // Counts the games in each bucket, then writes every game ID into its bucket's slot
+    private void writeBuckets() throws IOException {
+        long[] winnerCounts = new long[WINNER_BUCKETS];
+        long[] lengthCounts = new long[LENGTH_BUCKETS];
+        MappedByteBuffer[] entries = map(index, FileChannel.MapMode.READ_ONLY, indexPosition(gameCount));
+        for (long id = 0; id < gameCount; id++) {
+            winnerCounts[winnerBucket(winnerAt(entries, id))]++;
+            lengthCounts[lengthBucket(movesAt(entries, id))]++;
+        }
+
+        // Next free ID slot of every bucket, as a byte position in the file
+        long[] winnerNext = new long[WINNER_BUCKETS];
+        long[] lengthNext = new long[LENGTH_BUCKETS];
+        long position = BUCKETS_HEADER_SIZE;
+        for (int bucket = 0; bucket < WINNER_BUCKETS; bucket++) {
+            winnerNext[bucket] = position;
+            position += 4 * winnerCounts[bucket];
+        }
+        for (int bucket = 0; bucket < LENGTH_BUCKETS; bucket++) {
+            lengthNext[bucket] = position;
+            position += 4 * lengthCounts[bucket];
+        }
+
+        try (FileChannel buckets = FileChannel.open(directory.resolve(BUCKETS_FILE), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer[] chunks = map(buckets, FileChannel.MapMode.READ_WRITE, position);
+            MappedByteBuffer header = chunks[0];
+            header.putInt(0, BUCKETS_MAGIC).putInt(4, VERSION).putLong(8, gameCount);
+            int at = 16;
+            for (long count : winnerCounts) {
+                header.putLong(at, count);
+                at += 8;
+            }
+            for (long count : lengthCounts) {
+                header.putLong(at, count);
+                at += 8;
+            }
+
+            for (long id = 0; id < gameCount; id++) {
+                int winnerBucket = winnerBucket(winnerAt(entries, id));
+                putInt(chunks, winnerNext[winnerBucket], (int) id);
+                winnerNext[winnerBucket] += 4;
+                int lengthBucket = lengthBucket(movesAt(entries, id));
+                putInt(chunks, lengthNext[lengthBucket], (int) id);
+                lengthNext[lengthBucket] += 4;
+            }
+            for (MappedByteBuffer chunk : chunks) {
+                chunk.force();
+            }
+        }
+    }
+
+    private static int winnerAt(MappedByteBuffer[] entries, long id) {
+        long position = indexPosition(id) + 12;
+        int winner = entries[(int) (position >>> CHUNK_SHIFT)].get((int) (position & (CHUNK_SIZE - 1))) & 0xFF;
+        return winner == NO_WINNER ? -1 : winner;
+    }
+
+    private static int movesAt(MappedByteBuffer[] entries, long id) {
+        long position = indexPosition(id) + 14;
+        return entries[(int) (position >>> CHUNK_SHIFT)].getShort((int) (position & (CHUNK_SIZE - 1))) & 0xFFFF;
+    }
+
+    private static void putInt(MappedByteBuffer[] chunks, long position, int value) {
+        chunks[(int) (position >>> CHUNK_SHIFT)].putInt((int) (position & (CHUNK_SIZE - 1)), value);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Game archive file is truncated");
+            }
+            position += read;
+        }
+    }
+}
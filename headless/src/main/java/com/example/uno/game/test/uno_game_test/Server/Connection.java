@@ -0,0 +1,140 @@
+package com.example.uno.game.test.uno_game_test.Server;
+
+import com.example.uno.game.test.uno_game_test.Models.EngineMetrics;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One client socket, read and written only by the IoLoop that owns it.
+ * Any thread may send: frames are queued and the loop writes them out in batches,
+ * so a move that changes a table costs one write per client rather than one per frame.
+ */
+final class Connection {
+    private static final int READ_BUFFER_SIZE = 16 * 1024;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    // A client that stops reading is dropped rather than queued for without end
+    private static final int MAX_QUEUED_BYTES = 1024 * 1024;
+
+    final SocketChannel channel;
+    final IoLoop loop;
+    final ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+    private final ByteBuffer writeBuffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+    private final ConcurrentLinkedQueue<ByteBuffer> outbound = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queuedBytes = new AtomicInteger();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile boolean overflowed;
+    // Table ID to seat, for every table this client sits at. Written by the tables' shards
+    private final Map<Integer, Integer> seats = new ConcurrentHashMap<>();
+    SelectionKey key;
+
+    Connection(SocketChannel channel, IoLoop loop) {
+        this.channel = channel;
+        this.loop = loop;
+    }
+
+    /**
+     * Queues a flipped frame. Safe to call from any thread.
+     */
+    void send(ByteBuffer frame) {
+        if (closed.get()) {
+            return;
+        }
+        if (queuedBytes.addAndGet(frame.remaining()) > MAX_QUEUED_BYTES) {
+            // Senders run on shard threads, so the loop that owns the socket closes it
+            overflowed = true;
+        } else {
+            outbound.add(frame);
+        }
+        if (flushRequested.compareAndSet(false, true)) {
+            loop.requestFlush(this);
+        }
+    }
+
+    /**
+     * Writes as much of the queue as the socket takes, waiting for OP_WRITE if it is full.
+     * Called on the loop thread.
+     */
+    void flush() throws IOException {
+        flushRequested.set(false);
+        if (overflowed) {
+            throw new IOException("Client is not reading");
+        }
+        while (true) {
+            ByteBuffer frame;
+            while ((frame = outbound.peek()) != null && frame.remaining() <= writeBuffer.remaining()) {
+                queuedBytes.addAndGet(-frame.remaining());
+                writeBuffer.put(frame);
+                outbound.poll();
+            }
+            writeBuffer.flip();
+            int bytes = channel.write(writeBuffer);
+            if (EngineMetrics.ENABLED) {
+                loop.server.metrics.bytesSent.add(bytes);
+            }
+            boolean written = !writeBuffer.hasRemaining();
+            writeBuffer.compact();
+            if (!written) {
+                key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                return;
+            }
+            if (outbound.isEmpty()) {
+                key.interestOps(SelectionKey.OP_READ);
+                return;
+            }
+        }
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    Integer getSeat(int tableId) {
+        return seats.get(tableId);
+    }
+
+    boolean isSeated(int tableId) {
+        return seats.containsKey(tableId);
+    }
+
+    void seated(int tableId, int seat) {
+        seats.put(tableId, seat);
+    }
+
+    void unseated(int tableId) {
+        seats.remove(tableId);
+    }
+
+    /**
+     * Closes the socket and hands this client's seats to the computer.
+     */
+    void close(GameServer server) {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        if (EngineMetrics.ENABLED && key != null) {
+            server.metrics.connectionsClosed.increment();
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // Already gone
+        }
+        for (Map.Entry<Integer, Integer> seat : seats.entrySet()) {
+            Table table = server.getTable(seat.getKey());
+            if (table != null) {
+                int seatIndex = seat.getValue();
+                table.shard.submit(() -> table.leave(this, seatIndex));
+            }
+        }
+        outbound.clear();
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.uno.game.test.uno_game_test.Server;
+
+/**
+ * Why the server turned a request down, sent as its ordinal in an ERROR message.
+ */
+public enum ErrorCode {
+    BAD_REQUEST,
+    UNKNOWN_TABLE,
+    TABLE_FULL,
+    NOT_SEATED,
+    NOT_STARTED,
+    NOT_YOUR_TURN,
+    INVALID_MOVE;
+
+    private static final ErrorCode[] CODES = values();
+
+    static ErrorCode of(int code) {
+        return code < CODES.length ? CODES[code] : BAD_REQUEST;
+    }
+}
@@ -0,0 +1,285 @@
+package com.example.uno.game.test.uno_game_test.Server;
+
+import com.example.uno.game.test.uno_game_test.Models.EngineMetrics;
+import com.example.uno.game.test.uno_game_test.Models.GameEngine;
+import com.example.uno.game.test.uno_game_test.Models.GreedyStrategy;
+import com.example.uno.game.test.uno_game_test.Models.RuleSet;
+import com.example.uno.game.test.uno_game_test.Models.Strategy;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Hosts multiplayer games over TCP, speaking the binary Protocol.
+ * A few IoLoop threads serve every connection without blocking and pass each request to
+ * the Shard that owns its table. Tables are spread over the shards by ID, and each shard
+ * plays its tables on one thread, so the server scales with cores without locking a game.
+ * Seats no client holds are played by the computer strategy, so a strategy that thinks
+ * for long (such as ismcts) holds up every table of its shard and is best left to clients.
+ *
+ * Usage: GameServer [--port N] [--threads T] [--shards S] [--strategy greedy|color-majority|heuristic]
+ *                   [--turn-timeout-millis M] [--computer-delay-millis D]
+ * --threads sets the IO threads. With a turn timeout, the computer moves for a client that has not
+ * moved in time. With a computer delay, computers play one turn at a time, D apart, and clients
+ * see each of them.
+ * With -Duno.metrics=true the server counts its traffic and the engines' moves, and publishes
+ * them over JMX (see GameServerMXBean).
+ */
+public final class GameServer implements Closeable {
+    private final InetSocketAddress address;
+    private final Strategy computer;
+    private final IoLoop[] loops;
+    private final Shard[] shards;
+    private volatile long turnTimeoutNanos;
+    private volatile long computerDelayNanos;
+    private final Map<Integer, Table> tables = new ConcurrentHashMap<>();
+    // Table IDs start at 1; errors for a HOST request carry table 0
+    private final AtomicInteger nextTableId = new AtomicInteger(1);
+    private ServerSocketChannel acceptor;
+    final ServerMetrics metrics = new ServerMetrics(this);
+    // Set while registered with JMX
+    private ObjectName metricsName;
+
+    /**
+     * Plays the tables on one shard per core.
+     * @param address   The address to listen on; port 0 picks a free port (see getPort)
+     * @param ioThreads The number of threads serving connections
+     * @param computer  The strategy for seats without a client
+     */
+    public GameServer(InetSocketAddress address, int ioThreads, Strategy computer) throws IOException {
+        this(address, ioThreads, Runtime.getRuntime().availableProcessors(), computer);
+    }
+
+    /**
+     * @param shards The number of threads playing the tables
+     */
+    public GameServer(InetSocketAddress address, int ioThreads, int shards, Strategy computer) throws IOException {
+        if (ioThreads < 1 || shards < 1) {
+            throw new IllegalArgumentException("A server needs at least one IO thread and one shard");
+        }
+        this.address = address;
+        this.computer = computer;
+        this.loops = new IoLoop[ioThreads];
+        for (int i = 0; i < ioThreads; i++) {
+            loops[i] = new IoLoop(this, i);
+        }
+        this.shards = new Shard[shards];
+        for (int i = 0; i < shards; i++) {
+            this.shards[i] = new Shard(i);
+        }
+    }
+
+    /**
+     * Makes the computer move for a client that has not moved within the timeout; 0, the default, waits for ever.
+     * Applies to turns that start afterwards.
+     */
+    public void setTurnTimeoutMillis(long millis) {
+        turnTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    /**
+     * Paces computer turns the given time apart so that clients see each one; 0, the default,
+     * plays them all at once. Applies to turns that start afterwards.
+     */
+    public void setComputerDelayMillis(long millis) {
+        computerDelayNanos = TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    public void start() throws IOException {
+        for (Shard shard : shards) {
+            shard.start();
+        }
+        acceptor = ServerSocketChannel.open();
+        acceptor.bind(address, 1024);
+        loops[0].accept(acceptor, loops);
+        for (IoLoop loop : loops) {
+            loop.start();
+        }
+        if (EngineMetrics.ENABLED) {
+            try {
+                metricsName = new ObjectName("uno:type=GameServer,port=" + getPort());
+                ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, metricsName);
+            } catch (JMException e) {
+                // Still serving, just not visible over JMX
+                System.err.println("Could not register server metrics: " + e);
+                metricsName = null;
+            }
+        }
+    }
+
+    public int getPort() {
+        return acceptor.socket().getLocalPort();
+    }
+
+    /**
+     * @return The number of games open now, started or waiting for clients
+     */
+    public int getTableCount() {
+        return tables.size();
+    }
+
+    /**
+     * @return The server's counters and the engines', which stay at zero unless EngineMetrics.ENABLED
+     */
+    public GameServerMXBean getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Stops accepting, closes every connection and waits for the IO and shard threads to finish.
+     */
+    @Override
+    public void close() throws IOException {
+        if (metricsName != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(metricsName);
+            } catch (JMException e) {
+                // Already gone
+            }
+            metricsName = null;
+        }
+        acceptor.close();
+        try {
+            for (IoLoop loop : loops) {
+                loop.close();
+            }
+            for (Shard shard : shards) {
+                shard.close();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    Strategy getComputerStrategy() {
+        return computer;
+    }
+
+    long getTurnTimeoutNanos() {
+        return turnTimeoutNanos;
+    }
+
+    long getComputerDelayNanos() {
+        return computerDelayNanos;
+    }
+
+    Table getTable(int id) {
+        return tables.get(id);
+    }
+
+    void removeTable(Table table) {
+        tables.remove(table.id, table);
+    }
+
+    /**
+     * Reads one request on the IO thread that received it and hands it to the table's shard.
+     * The payload is only valid during the call.
+     */
+    void dispatch(Connection client, int type, ByteBuffer payload) {
+        if (EngineMetrics.ENABLED) {
+            metrics.requests.increment();
+        }
+        if (type == Protocol.HOST) {
+            host(client, payload);
+            return;
+        }
+        if (payload.remaining() < 4) {
+            client.send(Protocol.error(0, ErrorCode.BAD_REQUEST));
+            return;
+        }
+        int tableId = payload.getInt();
+        Table table = tables.get(tableId);
+        if (table == null) {
+            client.send(Protocol.error(tableId, ErrorCode.UNKNOWN_TABLE));
+            return;
+        }
+        if (type == Protocol.JOIN && payload.remaining() == 0) {
+            table.shard.submit(() -> table.join(client));
+            return;
+        }
+
+        Integer seat = client.getSeat(tableId);
+        if (seat == null) {
+            client.send(Protocol.error(tableId, ErrorCode.NOT_SEATED));
+        } else if (type == Protocol.MOVE && payload.remaining() == 2) {
+            int cardIndex = payload.get();
+            int wildColor = payload.get();
+            table.shard.submit(() -> table.move(client, seat, cardIndex, wildColor));
+        } else if (type == Protocol.JUMP_IN && payload.remaining() == 1) {
+            int cardIndex = payload.get();
+            table.shard.submit(() -> table.jumpIn(client, seat, cardIndex));
+        } else if (type == Protocol.LEAVE && payload.remaining() == 0) {
+            table.shard.submit(() -> table.leave(client, seat));
+        } else if (type == Protocol.RESYNC && payload.remaining() == 0) {
+            table.shard.submit(() -> table.resync(client, seat));
+        } else {
+            client.send(Protocol.error(tableId, ErrorCode.BAD_REQUEST));
+        }
+    }
+
+    private void host(Connection client, ByteBuffer payload) {
+        if (payload.remaining() != 3) {
+            client.send(Protocol.error(0, ErrorCode.BAD_REQUEST));
+            return;
+        }
+        int numPlayers = payload.get() & 0xFF;
+        int clientSeats = payload.get() & 0xFF;
+        RuleSet rules;
+        try {
+            rules = RuleSet.fromFlags(payload.get() & 0xFF);
+        } catch (IllegalArgumentException e) {
+            client.send(Protocol.error(0, ErrorCode.BAD_REQUEST));
+            return;
+        }
+        if (numPlayers < GameEngine.MIN_PLAYERS || numPlayers > GameEngine.MAX_DEALT_PLAYERS
+                || clientSeats < 1 || clientSeats > numPlayers) {
+            client.send(Protocol.error(0, ErrorCode.BAD_REQUEST));
+            return;
+        }
+
+        int id = nextTableId.getAndIncrement();
+        Table table = new Table(id, this, shards[id % shards.length], numPlayers, clientSeats, rules,
+                ThreadLocalRandom.current().nextLong());
+        tables.put(id, table);
+        table.shard.submit(() -> table.join(client));
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = 7777;
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 4);
+        int shards = Runtime.getRuntime().availableProcessors();
+        Strategy strategy = GreedyStrategy.INSTANCE;
+        long turnTimeoutMillis = 0;
+        long computerDelayMillis = 0;
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--port" -> port = Integer.parseInt(args[i + 1]);
+                case "--threads" -> threads = Integer.parseInt(args[i + 1]);
+                case "--shards" -> shards = Integer.parseInt(args[i + 1]);
+                case "--strategy" -> strategy = Strategy.byName(args[i + 1]);
+                case "--turn-timeout-millis" -> turnTimeoutMillis = Long.parseLong(args[i + 1]);
+                case "--computer-delay-millis" -> computerDelayMillis = Long.parseLong(args[i + 1]);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        GameServer server = new GameServer(new InetSocketAddress(port), threads, shards, strategy);
+        server.setTurnTimeoutMillis(turnTimeoutMillis);
+        server.setComputerDelayMillis(computerDelayMillis);
+        server.start();
+        System.out.println("Serving games on port " + server.getPort() + " with " + threads + " IO threads and "
+                + shards + " shards");
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.uno.game.test.uno_game_test.Server;
+
+/**
+ * What a GameServer and the engines in its process are doing, as seen over JMX.
+ * Registered as uno:type=GameServer,port=N while the server runs with -Duno.metrics=true.
+ * Counts and percentiles cover everything since start; getTurnsPerSecond covers the time since it was last read.
+ */
+public interface GameServerMXBean {
+    int getTableCount();
+
+    long getOpenConnections();
+
+    long getRequests();
+
+    long getBytesSent();
+
+    long getKeyframesSent();
+
+    long getDeltasSent();
+
+    long getGamesStarted();
+
+    long getGamesFinished();
+
+    long getTurns();
+
+    double getTurnsPerSecond();
+
+    long getCardsPlayed();
+
+    long getCardsDrawn();
+
+    long getReshuffles();
+
+    long getFirstCardRedraws();
+
+    long getEmptyDraws();
+
+    long getPlayCardP50Nanos();
+
+    long getPlayCardP99Nanos();
+
+    long getDecisionP50Nanos();
+
+    long getDecisionP99Nanos();
+
+    double getMeanHandSize();
+}
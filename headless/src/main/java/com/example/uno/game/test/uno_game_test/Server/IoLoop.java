@@ -0,0 +1,177 @@
+package com.example.uno.game.test.uno_game_test.Server;
+
+import com.example.uno.game.test.uno_game_test.Models.EngineMetrics;
+
+import java.io.IOException;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A selector thread serving many connections. Requests are handled on this thread as
+ * soon as they are read, and replies queued meanwhile are written once the reads are done.
+ * The first loop also accepts connections and deals them out to every loop in turn.
+ */
+final class IoLoop implements Runnable {
+    final GameServer server;
+    private final Selector selector;
+    private final Thread thread;
+    private final ConcurrentLinkedQueue<SocketChannel> accepted = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Connection> flushes = new ConcurrentLinkedQueue<>();
+    private IoLoop[] loops;
+    private int nextLoop;
+    private volatile boolean running = true;
+
+    IoLoop(GameServer server, int index) throws IOException {
+        this.server = server;
+        this.selector = Selector.open();
+        this.thread = new Thread(this, "game-server-io-" + index);
+    }
+
+    /**
+     * Makes this loop accept connections for all the given loops.
+     */
+    void accept(ServerSocketChannel acceptor, IoLoop[] loops) throws IOException {
+        this.loops = loops;
+        acceptor.configureBlocking(false);
+        acceptor.register(selector, SelectionKey.OP_ACCEPT);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    void requestFlush(Connection connection) {
+        flushes.add(connection);
+        if (Thread.currentThread() != thread) {
+            selector.wakeup();
+        }
+    }
+
+    void close() throws InterruptedException {
+        running = false;
+        selector.wakeup();
+        thread.join();
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (running) {
+                selector.select();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    handle(key);
+                }
+                // After the keys, so connections this loop just accepted for itself are not left waiting
+                registerAccepted();
+                flushPending();
+            }
+        } catch (IOException | ClosedSelectorException e) {
+            System.err.println("Server loop stopped: " + e);
+        } finally {
+            for (SelectionKey key : selector.keys()) {
+                if (key.attachment() instanceof Connection connection) {
+                    connection.close(server);
+                }
+            }
+            try {
+                selector.close();
+            } catch (IOException e) {
+                // Closing anyway
+            }
+        }
+    }
+
+    private void handle(SelectionKey key) throws IOException {
+        if (!key.isValid()) {
+            return;
+        }
+        if (key.isAcceptable()) {
+            SocketChannel channel = ((ServerSocketChannel) key.channel()).accept();
+            if (channel != null) {
+                IoLoop loop = loops[nextLoop++ % loops.length];
+                loop.accepted.add(channel);
+                if (loop != this) {
+                    loop.selector.wakeup();
+                }
+            }
+            return;
+        }
+
+        Connection connection = (Connection) key.attachment();
+        try {
+            if (key.isReadable()) {
+                read(connection);
+            }
+            if (key.isValid() && key.isWritable()) {
+                connection.flush();
+            }
+        } catch (IOException e) {
+            connection.close(server);
+        } catch (RuntimeException e) {
+            // A request that breaks the server drops its own connection, not this loop and every other one
+            System.err.println("Closing connection after a failed request: " + e);
+            e.printStackTrace();
+            connection.close(server);
+        }
+    }
+
+    private void registerAccepted() throws IOException {
+        SocketChannel channel;
+        while ((channel = accepted.poll()) != null) {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            Connection connection = new Connection(channel, this);
+            connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+            if (EngineMetrics.ENABLED) {
+                server.metrics.connectionsOpened.increment();
+            }
+        }
+    }
+
+    private void read(Connection connection) throws IOException {
+        ByteBuffer in = connection.readBuffer;
+        if (connection.channel.read(in) < 0) {
+            connection.close(server);
+            return;
+        }
+        in.flip();
+        while (in.remaining() >= 2) {
+            int position = in.position();
+            int length = in.getShort(position) & 0xFFFF;
+            if (length == 0 || length > Protocol.MAX_FRAME_SIZE) {
+                throw new IOException("Bad frame length " + length);
+            }
+            if (in.remaining() < 2 + length) {
+                break;
+            }
+            int type = in.get(position + 2) & 0xFF;
+            server.dispatch(connection, type, in.slice(position + Protocol.FRAME_HEADER_SIZE, length - 1));
+            in.position(position + 2 + length);
+        }
+        in.compact();
+    }
+
+    private void flushPending() {
+        Connection connection;
+        while ((connection = flushes.poll()) != null) {
+            if (!connection.key.isValid()) {
+                continue;
+            }
+            try {
+                connection.flush();
+            } catch (IOException e) {
+                connection.close(server);
+            }
+        }
+    }
+}
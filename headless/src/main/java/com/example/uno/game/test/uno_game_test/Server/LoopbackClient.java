@@ -0,0 +1,462 @@
+package com.example.uno.game.test.uno_game_test.Server;
+
+import com.example.uno.game.test.uno_game_test.Models.Card;
+import com.example.uno.game.test.uno_game_test.Models.Deck;
+import com.example.uno.game.test.uno_game_test.Models.PlayerView;
+import com.example.uno.game.test.uno_game_test.Models.RuleSet;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * A blocking GameServer client, for bots, tools and the load test. Not thread-safe.
+ * Requests are buffered until flush, or until receive has nothing left to return,
+ * so a client playing many tables sends its moves in one write.
+ * The client keeps one State per table and applies each update to it, asking for a
+ * keyframe by itself if an update goes missing.
+ */
+public final class LoopbackClient implements Closeable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final SocketChannel channel;
+    private final ByteBuffer out = ByteBuffer.allocate(BUFFER_SIZE);
+    private final ByteBuffer in = ByteBuffer.allocate(BUFFER_SIZE).flip();
+    private final RandomGenerator random = new SplittableRandom();
+    // The latest state of every table this client sits at and has been sent a keyframe for
+    private final Map<Integer, State> tables = new HashMap<>();
+    private long bytesReceived;
+
+    public LoopbackClient(InetSocketAddress server) throws IOException {
+        channel = SocketChannel.open(server);
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+    }
+
+    /**
+     * Opens a table with the given number of client seats and takes the first of them.
+     * The other players are computers. The reply is Seated, then State once every client seat is taken.
+     */
+    public void host(int numPlayers, int clientSeats, RuleSet rules) throws IOException {
+        request(Protocol.HOST, 3).put((byte) numPlayers).put((byte) clientSeats).put((byte) rules.toFlags());
+    }
+
+    public void join(int tableId) throws IOException {
+        request(Protocol.JOIN, 4).putInt(tableId);
+    }
+
+    /**
+     * @param cardIndex The hand index to play, -1 to draw, or Strategy.CHALLENGE
+     * @param wildColor The color to name if the card is a wild
+     */
+    public void move(int tableId, int cardIndex, int wildColor) throws IOException {
+        request(Protocol.MOVE, 6).putInt(tableId).put((byte) cardIndex).put((byte) wildColor);
+    }
+
+    public void jumpIn(int tableId, int cardIndex) throws IOException {
+        request(Protocol.JUMP_IN, 5).putInt(tableId).put((byte) cardIndex);
+    }
+
+    public void leave(int tableId) throws IOException {
+        request(Protocol.LEAVE, 4).putInt(tableId);
+    }
+
+    public void flush() throws IOException {
+        out.flip();
+        while (out.hasRemaining()) {
+            channel.write(out);
+        }
+        out.clear();
+    }
+
+    /**
+     * Sends the buffered requests if no message has arrived yet, then waits for the next message.
+     */
+    public Message receive() throws IOException {
+        while (true) {
+            Message message = parse();
+            if (message != null) {
+                return message;
+            }
+            flush();
+            in.compact();
+            int read = channel.read(in);
+            in.flip();
+            if (read < 0) {
+                throw new EOFException("Server closed the connection");
+            }
+            bytesReceived += read;
+        }
+    }
+
+    /**
+     * Asks the server for a keyframe of the table, replacing whatever this client holds for it.
+     */
+    public void resync(int tableId) throws IOException {
+        request(Protocol.RESYNC, 4).putInt(tableId);
+    }
+
+    /**
+     * @return Every byte read from the server so far, frame headers included
+     */
+    public long getBytesReceived() {
+        return bytesReceived;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private ByteBuffer request(int type, int payloadSize) throws IOException {
+        if (out.remaining() < Protocol.FRAME_HEADER_SIZE + payloadSize) {
+            flush();
+        }
+        return out.putShort((short) (payloadSize + 1)).put((byte) type);
+    }
+
+    // Returns the next complete message, skipping deltas that cannot be applied, or null
+    private Message parse() throws IOException {
+        while (in.remaining() >= 2) {
+            int position = in.position();
+            int length = in.getShort(position) & 0xFFFF;
+            if (length == 0 || length > Protocol.MAX_FRAME_SIZE) {
+                throw new IOException("Bad frame length " + length);
+            }
+            if (in.remaining() < 2 + length) {
+                return null;
+            }
+            ByteBuffer payload = in.slice(position + Protocol.FRAME_HEADER_SIZE, length - 1);
+            int type = in.get(position + 2) & 0xFF;
+            in.position(position + 2 + length);
+            Message message = switch (type) {
+                case Protocol.SEATED -> new Seated(payload.getInt(), payload.get() & 0xFF, payload.get() & 0xFF,
+                        RuleSet.fromFlags(payload.get() & 0xFF));
+                case Protocol.KEYFRAME -> keyframe(payload);
+                case Protocol.DELTA -> delta(payload);
+                case Protocol.ERROR -> new Rejected(payload.getInt(), ErrorCode.of(payload.get() & 0xFF));
+                default -> throw new IOException("Unknown message type " + type);
+            };
+            if (message != null) {
+                return message;
+            }
+        }
+        return null;
+    }
+
+    private State keyframe(ByteBuffer payload) {
+        int tableId = payload.getInt();
+        State state = tables.computeIfAbsent(tableId, id -> new State(id, random));
+        state.readKeyframe(payload);
+        if (state.isGameOver()) {
+            tables.remove(tableId);
+        }
+        return state;
+    }
+
+    // Returns null if the delta does not follow the last update, asking for a keyframe instead
+    private State delta(ByteBuffer payload) throws IOException {
+        int tableId = payload.getInt();
+        int sequence = payload.get() & 0xFF;
+        State state = tables.get(tableId);
+        if (state == null || !state.synced) {
+            return null;
+        }
+        if (sequence != ((state.sequence + 1) & 0xFF)) {
+            state.synced = false;
+            request(Protocol.RESYNC, 4).putInt(tableId);
+            return null;
+        }
+        state.sequence = sequence;
+        state.readDelta(payload);
+        if (state.isGameOver()) {
+            tables.remove(tableId);
+        }
+        return state;
+    }
+
+    /**
+     * A message from the server about one table.
+     */
+    public sealed interface Message permits Seated, State, Rejected {
+        int tableId();
+    }
+
+    public record Seated(int tableId, int seat, int numPlayers, RuleSet rules) implements Message {
+    }
+
+    public record Rejected(int tableId, ErrorCode code) implements Message {
+    }
+
+    /**
+     * The table as seen from this client's seat. It is a PlayerView, so a Strategy
+     * can choose the client's move from it. The same object is updated in place by every
+     * later update about its table, so read it before receiving again.
+     */
+    public static final class State implements PlayerView, Message {
+        private final int tableId;
+        private final RandomGenerator random;
+        private final byte[] hand = new byte[Deck.DECK_SIZE];
+        private final int[] colorCounts = new int[Card.Color.values().length];
+        private int seat;
+        private RuleSet rules;
+        private int currentPlayer;
+        private int flags;
+        private byte topCard;
+        private int currentColor;
+        private int pendingDraw;
+        private int winner;
+        private int drawPileSize;
+        private long playableMask;
+        private int[] handSizes;
+        private int handSize;
+        private long handMask;
+        private int sequence;
+        private boolean synced;
+
+        State(int tableId, RandomGenerator random) {
+            this.tableId = tableId;
+            this.random = random;
+        }
+
+        void readKeyframe(ByteBuffer payload) {
+            sequence = payload.get() & 0xFF;
+            seat = payload.get() & 0xFF;
+            handSizes = new int[payload.get() & 0xFF];
+            rules = RuleSet.fromFlags(payload.get() & 0xFF);
+            currentPlayer = payload.get() & 0xFF;
+            flags = payload.get() & 0xFF;
+            topCard = payload.get();
+            currentColor = payload.get() & 0xFF;
+            pendingDraw = payload.get() & 0xFF;
+            winner = toSeat(payload.get());
+            drawPileSize = payload.get() & 0xFF;
+            playableMask = payload.getLong();
+            for (int i = 0; i < handSizes.length; i++) {
+                handSizes[i] = payload.get() & 0xFF;
+            }
+            handSize = handSizes[seat];
+            payload.get(hand, 0, handSize);
+            handChanged();
+            synced = true;
+        }
+
+        void readDelta(ByteBuffer payload) {
+            int changes = payload.getShort();
+            if ((changes & Protocol.CURRENT_PLAYER_CHANGED) != 0) {
+                currentPlayer = payload.get() & 0xFF;
+            }
+            if ((changes & Protocol.FLAGS_CHANGED) != 0) {
+                flags = payload.get() & 0xFF;
+            }
+            if ((changes & Protocol.TOP_CARD_CHANGED) != 0) {
+                topCard = payload.get();
+            }
+            if ((changes & Protocol.COLOR_CHANGED) != 0) {
+                currentColor = payload.get() & 0xFF;
+            }
+            if ((changes & Protocol.PENDING_DRAW_CHANGED) != 0) {
+                pendingDraw = payload.get() & 0xFF;
+            }
+            if ((changes & Protocol.WINNER_CHANGED) != 0) {
+                winner = toSeat(payload.get());
+            }
+            if ((changes & Protocol.DRAW_PILE_CHANGED) != 0) {
+                drawPileSize = payload.get() & 0xFF;
+            }
+            if ((changes & Protocol.HAND_SIZES_CHANGED) != 0) {
+                long changedSeats = 0;
+                for (int i = 0; i < handSizes.length; i += 8) {
+                    changedSeats |= (payload.get() & 0xFFL) << i;
+                }
+                for (long rest = changedSeats; rest != 0; rest &= rest - 1) {
+                    handSizes[Long.numberOfTrailingZeros(rest)] = payload.get() & 0xFF;
+                }
+            }
+            if ((changes & Protocol.HAND_CHANGED) != 0) {
+                // Removed indices come in ascending order, so the kept cards shift down in one pass
+                int removed = payload.get() & 0xFF;
+                int nextRemoved = removed > 0 ? payload.get() & 0xFF : -1;
+                int kept = 0;
+                for (int i = 0; i < handSize; i++) {
+                    if (i == nextRemoved) {
+                        nextRemoved = --removed > 0 ? payload.get() & 0xFF : -1;
+                    } else {
+                        hand[kept++] = hand[i];
+                    }
+                }
+                int added = payload.get() & 0xFF;
+                payload.get(hand, kept, added);
+                handSize = kept + added;
+                handSizes[seat] = handSize;
+                handChanged();
+            }
+            if ((changes & Protocol.PLAYABLE_CHANGED) != 0) {
+                playableMask = Protocol.getPlayable(payload, handMask);
+            }
+        }
+
+        private void handChanged() {
+            long mask = 0;
+            Arrays.fill(colorCounts, 0);
+            for (int i = 0; i < handSize; i++) {
+                mask |= 1L << hand[i];
+                colorCounts[Card.colorOf(hand[i])]++;
+            }
+            handMask = mask;
+        }
+
+        private static int toSeat(byte seat) {
+            return (seat & 0xFF) == Protocol.NO_SEAT ? -1 : seat & 0xFF;
+        }
+
+        @Override
+        public int tableId() {
+            return tableId;
+        }
+
+        /**
+         * @return The seat whose turn it is
+         */
+        public int getCurrentPlayer() {
+            return currentPlayer;
+        }
+
+        public boolean isMyTurn() {
+            return currentPlayer == seat && winner < 0 && isStarted();
+        }
+
+        public boolean isStarted() {
+            return (flags & Protocol.STARTED) != 0;
+        }
+
+        public boolean isGameOver() {
+            return winner >= 0;
+        }
+
+        /**
+         * @return The winning seat, or -1 while the game goes on
+         */
+        public int getWinner() {
+            return winner;
+        }
+
+        @Override
+        public int getSeat() {
+            return seat;
+        }
+
+        @Override
+        public int getNumPlayers() {
+            return handSizes.length;
+        }
+
+        @Override
+        public boolean isClockwise() {
+            return (flags & Protocol.CLOCKWISE) != 0;
+        }
+
+        @Override
+        public int getNextSeat() {
+            int numPlayers = handSizes.length;
+            return isClockwise() ? (seat + 1) % numPlayers : (seat + numPlayers - 1) % numPlayers;
+        }
+
+        @Override
+        public int getHandSize(int seat) {
+            return handSizes[seat];
+        }
+
+        @Override
+        public byte getTopCard() {
+            return topCard;
+        }
+
+        @Override
+        public int getCurrentColor() {
+            return currentColor;
+        }
+
+        @Override
+        public int getDrawPileSize() {
+            return drawPileSize;
+        }
+
+        @Override
+        public int getHandSize() {
+            return handSize;
+        }
+
+        @Override
+        public byte getCard(int index) {
+            return hand[index];
+        }
+
+        @Override
+        public int indexOf(byte cardId) {
+            for (int i = 0; i < handSize; i++) {
+                if (hand[i] == cardId) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public int getCount(byte cardId) {
+            int count = 0;
+            for (int i = 0; i < handSize; i++) {
+                if (hand[i] == cardId) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        @Override
+        public int getColorCount(int color) {
+            return colorCounts[color];
+        }
+
+        @Override
+        public long getHandMask() {
+            return handMask;
+        }
+
+        /**
+         * @return The playable cards in the hand; 0 unless it is this seat's turn
+         */
+        @Override
+        public long getPlayableMask() {
+            return playableMask;
+        }
+
+        @Override
+        public int getPendingDraw() {
+            return pendingDraw;
+        }
+
+        @Override
+        public boolean canChallenge() {
+            return (flags & Protocol.CAN_CHALLENGE) != 0;
+        }
+
+        @Override
+        public RuleSet getRules() {
+            return rules;
+        }
+
+        @Override
+        public RandomGenerator getRandom() {
+            return random;
+        }
+    }
+}
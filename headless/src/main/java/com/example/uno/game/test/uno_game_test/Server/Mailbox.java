@@ -0,0 +1,57 @@
+package com.example.uno.game.test.uno_game_test.Server;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Unbounded lock-free queue for many producers and a single consumer.
+ * Offering costs one atomic swap, so IO threads never wait on a busy shard.
+ */
+final class Mailbox<T> {
+    private static final class Node<T> {
+        T value;
+        volatile Node<T> next;
+    }
+
+    // Last node offered; producers swap themselves in here
+    private final AtomicReference<Node<T>> tail;
+    // Node before the first value, read and written only by the consumer
+    private Node<T> head;
+
+    Mailbox() {
+        Node<T> stub = new Node<>();
+        head = stub;
+        tail = new AtomicReference<>(stub);
+    }
+
+    /**
+     * Adds a value. Safe to call from any thread.
+     */
+    void offer(T value) {
+        Node<T> node = new Node<>();
+        node.value = value;
+        tail.getAndSet(node).next = node;
+    }
+
+    /**
+     * Takes the oldest value. Called only by the consumer.
+     * A value whose producer is still linking it in is not seen yet.
+     * @return The value, or null if there is none
+     */
+    T poll() {
+        Node<T> next = head.next;
+        if (next == null) {
+            return null;
+        }
+        T value = next.value;
+        next.value = null;
+        head = next;
+        return value;
+    }
+
+    /**
+     * Called only by the consumer.
+     */
+    boolean isEmpty() {
+        return head.next == null;
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.uno.game.test.uno_game_test.Server;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Wire format shared by GameServer and LoopbackClient.
+ *
+ * Every message is a frame: length (2 bytes, counting the type and payload), type (1), payload.
+ * One connection may sit at many tables, so table messages carry the table ID. Big-endian.
+ *
+ * Client to server:
+ *   HOST     players (1), client seats (1), rule flags (1)  Creates a table and seats the client at seat 0.
+ *                                                          The game starts once every client seat is taken;
+ *                                                          computers play the other seats.
+ *   JOIN     table (4)                                     Takes the next free client seat.
+ *   MOVE     table (4), card index (1), color (1)          Both signed: -1 draws, Strategy.CHALLENGE challenges,
+ *                                                          and the color is only read for wilds.
+ *   JUMP_IN  table (4), card index (1)
+ *   LEAVE    table (4)                                     A computer takes over the seat.
+ *   RESYNC   table (4)                                     Asks for a KEYFRAME.
+ *
+ * Server to client:
+ *   SEATED   table (4), seat (1), players (1), rule flags (1)
+ *   KEYFRAME table (4), sequence (1), seat (1), players (1), rule flags (1), current player (1), flags (1),
+ *            top card (1), current color (1), pending draw (1), winner (1, 0xFF if none), draw pile size (1),
+ *            playable mask (8), hand size of every seat (1 each), the seat's own card IDs (1 each)
+ *   DELTA    table (4), sequence (1), changes (2), then for each bit set in changes, in this order:
+ *              CURRENT_PLAYER_CHANGED  current player (1)
+ *              FLAGS_CHANGED           flags (1)
+ *              TOP_CARD_CHANGED        top card (1)
+ *              COLOR_CHANGED           current color (1)
+ *              PENDING_DRAW_CHANGED    pending draw (1)
+ *              WINNER_CHANGED          winner (1)
+ *              DRAW_PILE_CHANGED       draw pile size (1)
+ *              HAND_SIZES_CHANGED      one bit per seat, lowest seat first (1 byte per 8 seats), set for each
+ *                                      other seat whose hand size changed, then each of their sizes (1)
+ *              HAND_CHANGED            count (1) and indices (1 each, ascending) of the cards removed from
+ *                                      the hand, then count (1) and IDs (1 each) of the cards added at its end
+ *              PLAYABLE_CHANGED        one bit per distinct card ID in the new hand, lowest ID first,
+ *                                      set if it may be played (see putPlayable)
+ *   ERROR    table (4, 0 for a HOST), code (1, an ErrorCode ordinal)
+ * After every change, once the computers have moved, each client at the table gets a KEYFRAME
+ * or a DELTA from its own seat. The sequence counts each client's updates for a table, wrapping
+ * at 256; a client that misses one drops deltas and sends RESYNC until the next keyframe.
+ * Keyframes also come first and then every so often (see ViewerSync).
+ * A table is gone once an update shows its winner.
+ */
+final class Protocol {
+    static final int HOST = 1;
+    static final int JOIN = 2;
+    static final int MOVE = 3;
+    static final int JUMP_IN = 4;
+    static final int LEAVE = 5;
+    static final int RESYNC = 6;
+
+    static final int SEATED = 0x81;
+    static final int KEYFRAME = 0x82;
+    static final int ERROR = 0x83;
+    static final int DELTA = 0x84;
+
+    // Flags of KEYFRAME and DELTA
+    static final int CLOCKWISE = 1;
+    static final int CAN_CHALLENGE = 1 << 1;
+    static final int STARTED = 1 << 2;
+
+    // DELTA changes
+    static final int CURRENT_PLAYER_CHANGED = 1;
+    static final int FLAGS_CHANGED = 1 << 1;
+    static final int TOP_CARD_CHANGED = 1 << 2;
+    static final int COLOR_CHANGED = 1 << 3;
+    static final int PENDING_DRAW_CHANGED = 1 << 4;
+    static final int WINNER_CHANGED = 1 << 5;
+    static final int DRAW_PILE_CHANGED = 1 << 6;
+    static final int HAND_SIZES_CHANGED = 1 << 7;
+    static final int HAND_CHANGED = 1 << 8;
+    static final int PLAYABLE_CHANGED = 1 << 9;
+
+    static final int NO_SEAT = 0xFF;
+
+    // Length and type
+    static final int FRAME_HEADER_SIZE = 3;
+    // Larger than any KEYFRAME: 64 hand sizes and a whole deck in one hand. A DELTA is never larger
+    static final int MAX_FRAME_SIZE = 256;
+    static final int KEYFRAME_FIXED_SIZE = 4 + 11 + 8;
+    static final int DELTA_FIXED_SIZE = 4 + 1 + 2;
+
+    private Protocol() {
+    }
+
+    /**
+     * @return A buffer holding the frame header, ready for payloadSize bytes of payload
+     */
+    static ByteBuffer frame(int type, int payloadSize) {
+        ByteBuffer frame = ByteBuffer.allocate(FRAME_HEADER_SIZE + payloadSize);
+        frame.putShort((short) (payloadSize + 1)).put((byte) type);
+        return frame;
+    }
+
+    static ByteBuffer error(int tableId, ErrorCode code) {
+        return frame(ERROR, 5).putInt(tableId).put((byte) code.ordinal()).flip();
+    }
+
+    static int playableSize(long handMask) {
+        return (Long.bitCount(handMask) + 7) / 8;
+    }
+
+    /**
+     * Writes playableMask, a subset of handMask, as one bit per card ID in handMask.
+     */
+    static void putPlayable(ByteBuffer out, long handMask, long playableMask) {
+        int bits = 0;
+        int count = 0;
+        for (long rest = handMask; rest != 0; rest &= rest - 1) {
+            if ((playableMask & Long.lowestOneBit(rest)) != 0) {
+                bits |= 1 << count;
+            }
+            if (++count == 8) {
+                out.put((byte) bits);
+                bits = 0;
+                count = 0;
+            }
+        }
+        if (count > 0) {
+            out.put((byte) bits);
+        }
+    }
+
+    /**
+     * Reads a mask written by putPlayable for the same hand.
+     */
+    static long getPlayable(ByteBuffer in, long handMask) {
+        long playableMask = 0;
+        int bits = 0;
+        int count = 0;
+        for (long rest = handMask; rest != 0; rest &= rest - 1) {
+            if (count == 0) {
+                bits = in.get();
+            }
+            if ((bits & (1 << count)) != 0) {
+                playableMask |= Long.lowestOneBit(rest);
+            }
+            count = (count + 1) & 7;
+        }
+        return playableMask;
+    }
+}
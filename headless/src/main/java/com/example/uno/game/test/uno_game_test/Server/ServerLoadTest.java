@@ -0,0 +1,197 @@
+package com.example.uno.game.test.uno_game_test.Server;
+
+import com.example.uno.game.test.uno_game_test.Models.Card;
+import com.example.uno.game.test.uno_game_test.Models.EngineMetrics;
+import com.example.uno.game.test.uno_game_test.Models.GreedyStrategy;
+import com.example.uno.game.test.uno_game_test.Models.RuleSet;
+import com.example.uno.game.test.uno_game_test.Models.Strategy;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Starts a GameServer on a free local port and plays thousands of tables on it at once,
+ * reporting move throughput and latency. Each client connection hosts its share of the tables,
+ * holds one seat at each and plays it greedily; a finished game is replaced by a new table.
+ * Latency runs from sending a move to receiving the update after it, computer turns included.
+ *
+ * Usage: ServerLoadTest [--tables N] [--clients C] [--players P] [--seconds S] [--threads T] [--shards H]
+ *                       [--rules stacking,jump-in,...] [--max-p99-millis M]
+ * --threads and --shards set the server's IO threads and shards. With --max-p99-millis,
+ * the run fails (exit code 1) if the 99th percentile latency is above M.
+ * Run with -Duno.metrics=true to also print the server's engine metrics.
+ */
+public final class ServerLoadTest {
+    // Latencies are counted in buckets of 10 microseconds, up to one second
+    private static final long BUCKET_NANOS = 10_000;
+    private static final int BUCKETS = 100_000;
+
+    private final InetSocketAddress server;
+    private final int tablesPerClient;
+    private final int numPlayers;
+    private final RuleSet rules;
+    private final long deadline;
+
+    private ServerLoadTest(InetSocketAddress server, int tablesPerClient, int numPlayers, RuleSet rules,
+                           long deadline) {
+        this.server = server;
+        this.tablesPerClient = tablesPerClient;
+        this.numPlayers = numPlayers;
+        this.rules = rules;
+        this.deadline = deadline;
+    }
+
+    // One client connection playing all of its tables until the deadline
+    private ClientResult play() throws IOException {
+        Strategy strategy = GreedyStrategy.INSTANCE;
+        ClientResult result = new ClientResult();
+        Map<Integer, Long> sentAt = new HashMap<>();
+        try (LoopbackClient client = new LoopbackClient(server)) {
+            for (int i = 0; i < tablesPerClient; i++) {
+                client.host(numPlayers, 1, rules);
+            }
+            while (System.nanoTime() < deadline) {
+                LoopbackClient.Message message = client.receive();
+                long now = System.nanoTime();
+                if (message instanceof LoopbackClient.State state) {
+                    result.updates++;
+                    Long sent = sentAt.remove(state.tableId());
+                    if (sent != null) {
+                        result.record(now - sent);
+                    }
+                    if (state.isGameOver()) {
+                        result.games++;
+                        client.host(numPlayers, 1, rules);
+                    } else if (state.isMyTurn()) {
+                        int cardIndex = strategy.chooseCard(state);
+                        int color = -1;
+                        if (cardIndex >= 0 && Card.colorOf(state.getCard(cardIndex)) == Card.Color.WILD.ordinal()) {
+                            color = strategy.chooseColor(state);
+                        }
+                        client.move(state.tableId(), cardIndex, color);
+                        sentAt.put(state.tableId(), now);
+                    }
+                } else if (message instanceof LoopbackClient.Rejected) {
+                    result.errors++;
+                }
+            }
+            result.bytes = client.getBytesReceived();
+        }
+        return result;
+    }
+
+    private static final class ClientResult {
+        final long[] buckets = new long[BUCKETS];
+        long moves;
+        long games;
+        long errors;
+        long updates;
+        long bytes;
+        long maxNanos;
+
+        void record(long nanos) {
+            buckets[(int) Math.min(nanos / BUCKET_NANOS, BUCKETS - 1)]++;
+            maxNanos = Math.max(maxNanos, nanos);
+            moves++;
+        }
+
+        void add(ClientResult other) {
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets[i] += other.buckets[i];
+            }
+            moves += other.moves;
+            games += other.games;
+            errors += other.errors;
+            updates += other.updates;
+            bytes += other.bytes;
+            maxNanos = Math.max(maxNanos, other.maxNanos);
+        }
+
+        /**
+         * @return The upper bound of the bucket holding the given fraction of moves, in milliseconds
+         */
+        double percentileMillis(double fraction) {
+            long rank = (long) Math.ceil(moves * fraction);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += buckets[i];
+                if (seen >= rank) {
+                    return (i + 1) * BUCKET_NANOS / 1e6;
+                }
+            }
+            return maxNanos / 1e6;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int tables = 4000;
+        int clients = 8;
+        int numPlayers = 4;
+        int seconds = 10;
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 4);
+        int shards = Runtime.getRuntime().availableProcessors();
+        RuleSet rules = RuleSet.STANDARD;
+        double maxP99Millis = Double.POSITIVE_INFINITY;
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--tables" -> tables = Integer.parseInt(args[i + 1]);
+                case "--clients" -> clients = Integer.parseInt(args[i + 1]);
+                case "--players" -> numPlayers = Integer.parseInt(args[i + 1]);
+                case "--seconds" -> seconds = Integer.parseInt(args[i + 1]);
+                case "--threads" -> threads = Integer.parseInt(args[i + 1]);
+                case "--shards" -> shards = Integer.parseInt(args[i + 1]);
+                case "--rules" -> rules = RuleSet.byNames(args[i + 1]);
+                case "--max-p99-millis" -> maxP99Millis = Double.parseDouble(args[i + 1]);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        ClientResult total = new ClientResult();
+        try (GameServer gameServer = new GameServer(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), threads, shards, GreedyStrategy.INSTANCE)) {
+            gameServer.start();
+            System.out.println("Playing " + tables + " tables of " + numPlayers + " over " + clients
+                    + " connections for " + seconds + " s (" + threads + " IO threads, " + shards + " shards, "
+                    + rules + ")");
+
+            InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), gameServer.getPort());
+            ServerLoadTest test = new ServerLoadTest(address, tables / clients, numPlayers, rules,
+                    System.nanoTime() + seconds * 1_000_000_000L);
+            ExecutorService pool = Executors.newFixedThreadPool(clients);
+            Future<?>[] results = new Future<?>[clients];
+            for (int i = 0; i < clients; i++) {
+                results[i] = pool.submit(test::play);
+            }
+            for (Future<?> result : results) {
+                total.add((ClientResult) result.get());
+            }
+            pool.shutdown();
+            System.out.println("Tables still open: " + gameServer.getTableCount());
+            if (EngineMetrics.ENABLED) {
+                System.out.println(EngineMetrics.snapshot());
+                GameServerMXBean metrics = gameServer.getMetrics();
+                System.out.printf("Server: %d requests, %d bytes sent, %d keyframes, %d deltas%n",
+                        metrics.getRequests(), metrics.getBytesSent(), metrics.getKeyframesSent(),
+                        metrics.getDeltasSent());
+            }
+        }
+
+        System.out.printf("Moves: %d (%.0f/s), games finished: %d, errors: %d%n",
+                total.moves, total.moves / (double) seconds, total.games, total.errors);
+        System.out.printf("Received %.1f bytes per table update%n", total.bytes / (double) total.updates);
+        double p99 = total.percentileMillis(0.99);
+        System.out.printf("Latency: p50 %.2f ms, p99 %.2f ms, p99.9 %.2f ms, max %.2f ms%n",
+                total.percentileMillis(0.5), p99, total.percentileMillis(0.999), total.maxNanos / 1e6);
+        if (p99 > maxP99Millis) {
+            System.out.println("FAILED: p99 latency is above " + maxP99Millis + " ms");
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.uno.game.test.uno_game_test.Server;
+
+import com.example.uno.game.test.uno_game_test.Models.EngineMetrics;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The server's own counters, alongside EngineMetrics, and the JMX view of both.
+ * Counted only while EngineMetrics.ENABLED; callers check it first.
+ */
+final class ServerMetrics implements GameServerMXBean {
+    private final GameServer server;
+    final LongAdder connectionsOpened = new LongAdder();
+    final LongAdder connectionsClosed = new LongAdder();
+    final LongAdder requests = new LongAdder();
+    final LongAdder bytesSent = new LongAdder();
+    private final LongAdder keyframesSent = new LongAdder();
+    private final LongAdder deltasSent = new LongAdder();
+    // The snapshot getTurnsPerSecond last measured from
+    private EngineMetrics.Snapshot lastRead = EngineMetrics.snapshot();
+
+    ServerMetrics(GameServer server) {
+        this.server = server;
+    }
+
+    /**
+     * Counts a flipped KEYFRAME or DELTA frame.
+     */
+    void stateSent(ByteBuffer frame) {
+        if ((frame.get(2) & 0xFF) == Protocol.KEYFRAME) {
+            keyframesSent.increment();
+        } else {
+            deltasSent.increment();
+        }
+    }
+
+    @Override
+    public int getTableCount() {
+        return server.getTableCount();
+    }
+
+    @Override
+    public long getOpenConnections() {
+        return connectionsOpened.sum() - connectionsClosed.sum();
+    }
+
+    @Override
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    @Override
+    public long getBytesSent() {
+        return bytesSent.sum();
+    }
+
+    @Override
+    public long getKeyframesSent() {
+        return keyframesSent.sum();
+    }
+
+    @Override
+    public long getDeltasSent() {
+        return deltasSent.sum();
+    }
+
+    @Override
+    public long getGamesStarted() {
+        return EngineMetrics.snapshot().gamesStarted();
+    }
+
+    @Override
+    public long getGamesFinished() {
+        return EngineMetrics.snapshot().gamesFinished();
+    }
+
+    @Override
+    public long getTurns() {
+        return EngineMetrics.snapshot().turns();
+    }
+
+    @Override
+    public synchronized double getTurnsPerSecond() {
+        EngineMetrics.Snapshot now = EngineMetrics.snapshot();
+        double rate = now.turnsPerSecond(lastRead);
+        lastRead = now;
+        return rate;
+    }
+
+    @Override
+    public long getCardsPlayed() {
+        return EngineMetrics.snapshot().cardsPlayed();
+    }
+
+    @Override
+    public long getCardsDrawn() {
+        return EngineMetrics.snapshot().cardsDrawn();
+    }
+
+    @Override
+    public long getReshuffles() {
+        return EngineMetrics.snapshot().reshuffles();
+    }
+
+    @Override
+    public long getFirstCardRedraws() {
+        return EngineMetrics.snapshot().firstCardRedraws();
+    }
+
+    @Override
+    public long getEmptyDraws() {
+        return EngineMetrics.snapshot().emptyDraws();
+    }
+
+    @Override
+    public long getPlayCardP50Nanos() {
+        return EngineMetrics.snapshot().playCardNanos().getPercentile(0.5);
+    }
+
+    @Override
+    public long getPlayCardP99Nanos() {
+        return EngineMetrics.snapshot().playCardNanos().getPercentile(0.99);
+    }
+
+    @Override
+    public long getDecisionP50Nanos() {
+        return EngineMetrics.snapshot().decisionNanos().getPercentile(0.5);
+    }
+
+    @Override
+    public long getDecisionP99Nanos() {
+        return EngineMetrics.snapshot().decisionNanos().getPercentile(0.99);
+    }
+
+    @Override
+    public double getMeanHandSize() {
+        return EngineMetrics.snapshot().handSizes().getMean();
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.uno.game.test.uno_game_test.Server;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * An event loop that owns a share of the server's tables. Every change to those tables
+ * runs on this thread, so games need no locks and the engine stays single-threaded.
+ * Other threads submit commands to the mailbox; each tick applies a batch of them,
+ * then fires the timers that are due, such as turn timeouts and paced computer turns.
+ */
+final class Shard implements Runnable {
+    // Commands applied before the timers get a turn
+    private static final int BATCH_SIZE = 1024;
+
+    /**
+     * Something woken by the shard's timer, on the shard's thread.
+     */
+    interface Timed {
+        void onTimer(long now);
+    }
+
+    private record Timeout(long deadline, Timed target) {
+    }
+
+    private final Thread thread;
+    private final Mailbox<Runnable> mailbox = new Mailbox<>();
+    // Only touched on the shard's thread
+    private final PriorityQueue<Timeout> timers =
+            new PriorityQueue<>((a, b) -> Long.compare(a.deadline - b.deadline, 0));
+    private volatile boolean sleeping;
+    private volatile boolean running = true;
+
+    Shard(int index) {
+        thread = new Thread(this, "game-shard-" + index);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    /**
+     * Runs the command on this shard's thread, after the commands submitted before it.
+     * Safe to call from any thread.
+     */
+    void submit(Runnable command) {
+        mailbox.offer(command);
+        if (sleeping) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Calls target.onTimer once System.nanoTime() reaches deadline. Only called on this shard's thread.
+     * Timers cannot be cancelled; a target that no longer cares ignores the call.
+     */
+    void schedule(long deadline, Timed target) {
+        timers.add(new Timeout(deadline, target));
+    }
+
+    /**
+     * Stops after the current tick. Commands still in the mailbox are dropped.
+     */
+    void close() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(thread);
+        thread.join();
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            int applied = 0;
+            Runnable command;
+            while (applied < BATCH_SIZE && (command = mailbox.poll()) != null) {
+                run(command);
+                applied++;
+            }
+            long now = System.nanoTime();
+            Timeout timeout;
+            while ((timeout = timers.peek()) != null && timeout.deadline - now <= 0) {
+                timers.poll();
+                Timeout due = timeout;
+                run(() -> due.target.onTimer(now));
+            }
+            if (applied == 0) {
+                sleep();
+            }
+        }
+    }
+
+    // Parks until a command is submitted or the next timer is due
+    private void sleep() {
+        sleeping = true;
+        // Checked after announcing the sleep, so a command offered meanwhile still unparks us
+        if (mailbox.isEmpty() && running) {
+            Timeout next = timers.peek();
+            if (next == null) {
+                LockSupport.park(this);
+            } else {
+                long wait = next.deadline - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(this, wait);
+                }
+            }
+        }
+        sleeping = false;
+    }
+
+    private static void run(Runnable command) {
+        try {
+            command.run();
+        } catch (RuntimeException e) {
+            // One broken command must not stop every table of the shard
+            System.err.println("Shard command failed: " + e);
+            e.printStackTrace();
+        }
+    }
+}
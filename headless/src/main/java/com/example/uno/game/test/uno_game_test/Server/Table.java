@@ -0,0 +1,251 @@
+package com.example.uno.game.test.uno_game_test.Server;
+
+import com.example.uno.game.test.uno_game_test.Models.Card;
+import com.example.uno.game.test.uno_game_test.Models.EngineMetrics;
+import com.example.uno.game.test.uno_game_test.Models.GameEngine;
+import com.example.uno.game.test.uno_game_test.Models.RuleSet;
+import com.example.uno.game.test.uno_game_test.Models.Strategy;
+
+import java.nio.ByteBuffer;
+
+/**
+ * One game hosted by the server. The table belongs to one Shard and every method
+ * runs on that shard's thread, so the game is never touched by two threads.
+ * Seats without a client are played by the computer strategy, right after the move before them
+ * or, with a computer delay, one turn at a time on the shard's timer. A client that lets its
+ * turn time out has the computer move for it.
+ */
+final class Table implements Shard.Timed {
+    // Stops a table of computers only from playing forever
+    private static final int MAX_COMPUTER_TURNS = 10_000;
+
+    final int id;
+    final Shard shard;
+    private final GameServer server;
+    private final GameEngine engine;
+    private final Strategy computer;
+    // The client at each seat, or null for computer seats
+    private final Connection[] clients;
+    // What each client seat has been sent so far
+    private final ViewerSync[] views;
+    private final int clientSeats;
+    private int joined;
+    private boolean finished;
+    // When the current turn is due to be played for its seat, if waking
+    private long wakeAt;
+    private boolean waking;
+    // The earliest timer queued on the shard for this table, if timerQueued
+    private long timerAt;
+    private boolean timerQueued;
+
+    Table(int id, GameServer server, Shard shard, int numPlayers, int clientSeats, RuleSet rules, long seed) {
+        this.id = id;
+        this.server = server;
+        this.shard = shard;
+        this.engine = new GameEngine(numPlayers, seed, rules);
+        this.computer = server.getComputerStrategy();
+        this.clients = new Connection[numPlayers];
+        this.views = new ViewerSync[numPlayers];
+        this.clientSeats = clientSeats;
+    }
+
+    /**
+     * Seats the client at the next free client seat, starting the game when it is the last one.
+     */
+    void join(Connection client) {
+        if (finished || joined == clientSeats || client.isSeated(id)) {
+            client.send(Protocol.error(id, ErrorCode.TABLE_FULL));
+            return;
+        }
+        int seat = joined++;
+        clients[seat] = client;
+        views[seat] = new ViewerSync(id, seat, clients.length, engine.getRules().toFlags());
+        client.seated(id, seat);
+        if (client.isClosed()) {
+            // It closed before seeing this seat, so the seat is ours to give up
+            leave(client, seat);
+            return;
+        }
+        client.send(seated(seat));
+        if (joined == clientSeats) {
+            changed();
+        }
+    }
+
+    void move(Connection client, int seat, int cardIndex, int wildColor) {
+        if (!checkTurn(client, seat)) {
+            return;
+        }
+        boolean valid;
+        if (cardIndex == Strategy.CHALLENGE) {
+            valid = engine.challenge();
+        } else if (cardIndex == -1) {
+            engine.drawCardForPlayer();
+            valid = true;
+        } else {
+            // Unlike GameEngine.applyMove, a card that may not be played is refused rather than drawn for
+            valid = cardIndex >= 0 && cardIndex < engine.getHandSize(seat)
+                    && (Card.colorOf(engine.getCard(seat, cardIndex)) != Card.Color.WILD.ordinal()
+                    || (wildColor >= 0 && wildColor < Card.Color.WILD.ordinal()))
+                    && engine.playCard(cardIndex, wildColor);
+        }
+        if (valid) {
+            changed();
+        } else {
+            client.send(Protocol.error(id, ErrorCode.INVALID_MOVE));
+        }
+    }
+
+    void jumpIn(Connection client, int seat, int cardIndex) {
+        if (finished || clients[seat] != client) {
+            client.send(Protocol.error(id, ErrorCode.NOT_SEATED));
+        } else if (joined < clientSeats) {
+            client.send(Protocol.error(id, ErrorCode.NOT_STARTED));
+        } else if (engine.jumpIn(seat, cardIndex)) {
+            changed();
+        } else {
+            client.send(Protocol.error(id, ErrorCode.INVALID_MOVE));
+        }
+    }
+
+    /**
+     * Sends the client a keyframe, once the game has started.
+     */
+    void resync(Connection client, int seat) {
+        if (finished || clients[seat] != client) {
+            client.send(Protocol.error(id, ErrorCode.NOT_SEATED));
+            return;
+        }
+        views[seat].requestKeyframe();
+        if (joined == clientSeats) {
+            client.send(state(seat));
+        }
+    }
+
+    /**
+     * Hands the seat to the computer. The table closes once no client is left.
+     */
+    void leave(Connection client, int seat) {
+        if (finished || clients[seat] != client) {
+            return;
+        }
+        clients[seat] = null;
+        views[seat] = null;
+        client.unseated(id);
+        for (Connection other : clients) {
+            if (other != null) {
+                if (joined == clientSeats) {
+                    changed();
+                }
+                return;
+            }
+        }
+        finish();
+    }
+
+    private boolean checkTurn(Connection client, int seat) {
+        ErrorCode error = null;
+        if (finished || clients[seat] != client) {
+            error = ErrorCode.NOT_SEATED;
+        } else if (joined < clientSeats) {
+            error = ErrorCode.NOT_STARTED;
+        } else if (engine.getCurrentPlayerIndex() != seat) {
+            error = ErrorCode.NOT_YOUR_TURN;
+        }
+        if (error != null) {
+            client.send(Protocol.error(id, error));
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Plays the current turn for its seat once it is due: a computer turn after the computer delay,
+     * or a client's turn that timed out.
+     */
+    @Override
+    public void onTimer(long now) {
+        timerQueued = false;
+        if (finished || !waking) {
+            return;
+        }
+        if (wakeAt - now > 0) {
+            wakeAt(wakeAt);
+            return;
+        }
+        waking = false;
+        engine.playTurn(computer);
+        changed();
+    }
+
+    // Plays the computer seats up to the next client's turn, shows every client the result
+    // and sets the timer for the turn that follows
+    private void changed() {
+        long computerDelay = server.getComputerDelayNanos();
+        if (computerDelay == 0) {
+            for (int turns = 0; !engine.isGameOver() && clients[engine.getCurrentPlayerIndex()] == null
+                    && turns < MAX_COMPUTER_TURNS; turns++) {
+                engine.playTurn(computer);
+            }
+        }
+        for (int seat = 0; seat < clients.length; seat++) {
+            if (clients[seat] != null) {
+                clients[seat].send(state(seat));
+            }
+        }
+        if (engine.isGameOver()) {
+            finish();
+            return;
+        }
+
+        long delay = clients[engine.getCurrentPlayerIndex()] == null ? computerDelay : server.getTurnTimeoutNanos();
+        if (delay > 0) {
+            wakeAt(System.nanoTime() + delay);
+        } else {
+            waking = false;
+        }
+    }
+
+    // Timers cannot be cancelled, so a later deadline reuses the timer already queued
+    private void wakeAt(long deadline) {
+        wakeAt = deadline;
+        waking = true;
+        if (!timerQueued || deadline - timerAt < 0) {
+            timerAt = deadline;
+            timerQueued = true;
+            shard.schedule(deadline, this);
+        }
+    }
+
+    private void finish() {
+        finished = true;
+        waking = false;
+        for (int seat = 0; seat < clients.length; seat++) {
+            if (clients[seat] != null) {
+                clients[seat].unseated(id);
+                clients[seat] = null;
+            }
+        }
+        server.removeTable(this);
+    }
+
+    private ByteBuffer seated(int seat) {
+        return Protocol.frame(Protocol.SEATED, 7)
+                .putInt(id)
+                .put((byte) seat)
+                .put((byte) clients.length)
+                .put((byte) engine.getRules().toFlags())
+                .flip();
+    }
+
+    private ByteBuffer state(int seat) {
+        int flags = (engine.isClockwise() ? Protocol.CLOCKWISE : 0)
+                | (engine.getCurrentPlayerIndex() == seat && engine.canChallenge() ? Protocol.CAN_CHALLENGE : 0)
+                | (joined == clientSeats ? Protocol.STARTED : 0);
+        ByteBuffer frame = views[seat].encode(engine, flags);
+        if (EngineMetrics.ENABLED) {
+            server.metrics.stateSent(frame);
+        }
+        return frame;
+    }
+}
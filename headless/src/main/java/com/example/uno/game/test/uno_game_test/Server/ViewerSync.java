@@ -0,0 +1,245 @@
+package com.example.uno.game.test.uno_game_test.Server;
+
+import com.example.uno.game.test.uno_game_test.Models.Deck;
+import com.example.uno.game.test.uno_game_test.Models.GameEngine;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Keeps what one client seat was last sent about its table and encodes the next update
+ * as a DELTA of what changed since then, or as a KEYFRAME holding everything.
+ * Keyframes go out first, every KEYFRAME_INTERVAL updates, when the client asks to resync,
+ * and whenever a delta would be the larger of the two.
+ * Hands only lose cards in place and gain them at the end (see Player), so a hand change
+ * is the removed indices and the added cards, usually a single byte or two.
+ */
+final class ViewerSync {
+    static final int KEYFRAME_INTERVAL = 64;
+
+    private final int tableId;
+    private final int seat;
+    private final int rules;
+    private final int[] handSizes;
+    private final byte[] hand = new byte[Deck.DECK_SIZE];
+    private int handSize;
+    private int currentPlayer;
+    private int flags;
+    private byte topCard;
+    private int currentColor;
+    private int pendingDraw;
+    private int winner;
+    private int drawPileSize;
+    private long playableMask;
+    private int sequence;
+    // Updates until the next keyframe; 0 sends one next
+    private int untilKeyframe;
+
+    // The hand diff found by diffHand: old indices removed, and new cards from addedFrom on
+    private final byte[] removed = new byte[Deck.DECK_SIZE];
+    private int removedCount;
+    private int addedFrom;
+
+    ViewerSync(int tableId, int seat, int numPlayers, int rules) {
+        this.tableId = tableId;
+        this.seat = seat;
+        this.rules = rules;
+        this.handSizes = new int[numPlayers];
+    }
+
+    /**
+     * Makes the next update a keyframe, for a client that lost track of the table.
+     */
+    void requestKeyframe() {
+        untilKeyframe = 0;
+    }
+
+    /**
+     * @param flags The Protocol flags for this seat (CLOCKWISE and so on)
+     * @return The flipped frame bringing the client up to date with the engine
+     */
+    ByteBuffer encode(GameEngine engine, int flags) {
+        int winnerSeat = engine.isGameOver() ? engine.getWinner() : Protocol.NO_SEAT;
+        long playable = engine.getCurrentPlayerIndex() == seat && winnerSeat == Protocol.NO_SEAT
+                ? engine.getCurrentPlayerView().getPlayableMask() : 0;
+        sequence = (sequence + 1) & 0xFF;
+
+        ByteBuffer frame = null;
+        if (untilKeyframe > 0) {
+            frame = delta(engine, flags, winnerSeat, playable);
+        }
+        if (frame == null) {
+            frame = keyframe(engine, flags, winnerSeat, playable);
+            untilKeyframe = KEYFRAME_INTERVAL;
+        } else {
+            untilKeyframe--;
+        }
+
+        currentPlayer = engine.getCurrentPlayerIndex();
+        this.flags = flags;
+        topCard = engine.getTopCard();
+        currentColor = engine.getCurrentColor();
+        pendingDraw = engine.getPendingDraw();
+        winner = winnerSeat;
+        drawPileSize = engine.getDrawPileSize();
+        playableMask = playable;
+        for (int i = 0; i < handSizes.length; i++) {
+            handSizes[i] = engine.getHandSize(i);
+        }
+        handSize = handSizes[seat];
+        for (int i = 0; i < handSize; i++) {
+            hand[i] = engine.getCard(seat, i);
+        }
+        return frame;
+    }
+
+    private ByteBuffer keyframe(GameEngine engine, int flags, int winnerSeat, long playable) {
+        int numPlayers = handSizes.length;
+        int newHandSize = engine.getHandSize(seat);
+        ByteBuffer frame = Protocol.frame(Protocol.KEYFRAME, Protocol.KEYFRAME_FIXED_SIZE + numPlayers + newHandSize)
+                .putInt(tableId)
+                .put((byte) sequence)
+                .put((byte) seat)
+                .put((byte) numPlayers)
+                .put((byte) rules)
+                .put((byte) engine.getCurrentPlayerIndex())
+                .put((byte) flags)
+                .put(engine.getTopCard())
+                .put((byte) engine.getCurrentColor())
+                .put((byte) engine.getPendingDraw())
+                .put((byte) winnerSeat)
+                .put((byte) engine.getDrawPileSize())
+                .putLong(playable);
+        for (int i = 0; i < numPlayers; i++) {
+            frame.put((byte) engine.getHandSize(i));
+        }
+        for (int i = 0; i < newHandSize; i++) {
+            frame.put(engine.getCard(seat, i));
+        }
+        return frame.flip();
+    }
+
+    // Returns null when a keyframe would be smaller
+    private ByteBuffer delta(GameEngine engine, int flags, int winnerSeat, long playable) {
+        int changes = 0;
+        int size = Protocol.DELTA_FIXED_SIZE;
+        if (engine.getCurrentPlayerIndex() != currentPlayer) {
+            changes |= Protocol.CURRENT_PLAYER_CHANGED;
+            size++;
+        }
+        if (flags != this.flags) {
+            changes |= Protocol.FLAGS_CHANGED;
+            size++;
+        }
+        if (engine.getTopCard() != topCard) {
+            changes |= Protocol.TOP_CARD_CHANGED;
+            size++;
+        }
+        if (engine.getCurrentColor() != currentColor) {
+            changes |= Protocol.COLOR_CHANGED;
+            size++;
+        }
+        if (engine.getPendingDraw() != pendingDraw) {
+            changes |= Protocol.PENDING_DRAW_CHANGED;
+            size++;
+        }
+        if (winnerSeat != winner) {
+            changes |= Protocol.WINNER_CHANGED;
+            size++;
+        }
+        if (engine.getDrawPileSize() != drawPileSize) {
+            changes |= Protocol.DRAW_PILE_CHANGED;
+            size++;
+        }
+        long changedSeats = 0;
+        for (int i = 0; i < handSizes.length; i++) {
+            if (i != seat && engine.getHandSize(i) != handSizes[i]) {
+                changedSeats |= 1L << i;
+            }
+        }
+        if (changedSeats != 0) {
+            changes |= Protocol.HAND_SIZES_CHANGED;
+            size += (handSizes.length + 7) / 8 + Long.bitCount(changedSeats);
+        }
+        int newHandSize = engine.getHandSize(seat);
+        if (diffHand(engine, newHandSize)) {
+            changes |= Protocol.HAND_CHANGED;
+            size += 2 + removedCount + newHandSize - addedFrom;
+        }
+        if (playable != playableMask) {
+            changes |= Protocol.PLAYABLE_CHANGED;
+            size += Protocol.playableSize(handMask(engine, newHandSize));
+        }
+        if (size > Protocol.KEYFRAME_FIXED_SIZE + handSizes.length + newHandSize) {
+            return null;
+        }
+
+        ByteBuffer frame = Protocol.frame(Protocol.DELTA, size)
+                .putInt(tableId)
+                .put((byte) sequence)
+                .putShort((short) changes);
+        if ((changes & Protocol.CURRENT_PLAYER_CHANGED) != 0) {
+            frame.put((byte) engine.getCurrentPlayerIndex());
+        }
+        if ((changes & Protocol.FLAGS_CHANGED) != 0) {
+            frame.put((byte) flags);
+        }
+        if ((changes & Protocol.TOP_CARD_CHANGED) != 0) {
+            frame.put(engine.getTopCard());
+        }
+        if ((changes & Protocol.COLOR_CHANGED) != 0) {
+            frame.put((byte) engine.getCurrentColor());
+        }
+        if ((changes & Protocol.PENDING_DRAW_CHANGED) != 0) {
+            frame.put((byte) engine.getPendingDraw());
+        }
+        if ((changes & Protocol.WINNER_CHANGED) != 0) {
+            frame.put((byte) winnerSeat);
+        }
+        if ((changes & Protocol.DRAW_PILE_CHANGED) != 0) {
+            frame.put((byte) engine.getDrawPileSize());
+        }
+        if ((changes & Protocol.HAND_SIZES_CHANGED) != 0) {
+            for (int i = 0; i < handSizes.length; i += 8) {
+                frame.put((byte) (changedSeats >>> i));
+            }
+            for (long rest = changedSeats; rest != 0; rest &= rest - 1) {
+                frame.put((byte) engine.getHandSize(Long.numberOfTrailingZeros(rest)));
+            }
+        }
+        if ((changes & Protocol.HAND_CHANGED) != 0) {
+            frame.put((byte) removedCount).put(removed, 0, removedCount);
+            frame.put((byte) (newHandSize - addedFrom));
+            for (int i = addedFrom; i < newHandSize; i++) {
+                frame.put(engine.getCard(seat, i));
+            }
+        }
+        if ((changes & Protocol.PLAYABLE_CHANGED) != 0) {
+            Protocol.putPlayable(frame, handMask(engine, newHandSize), playable);
+        }
+        return frame.flip();
+    }
+
+    // Matches the new hand against the old one in order; unmatched old cards were removed
+    // and the new cards after the last match were added
+    private boolean diffHand(GameEngine engine, int newHandSize) {
+        removedCount = 0;
+        int matched = 0;
+        for (int i = 0; i < handSize; i++) {
+            if (matched < newHandSize && hand[i] == engine.getCard(seat, matched)) {
+                matched++;
+            } else {
+                removed[removedCount++] = (byte) i;
+            }
+        }
+        addedFrom = matched;
+        return removedCount > 0 || matched < newHandSize;
+    }
+
+    private long handMask(GameEngine engine, int newHandSize) {
+        long mask = 0;
+        for (int i = 0; i < newHandSize; i++) {
+            mask |= 1L << engine.getCard(seat, i);
+        }
+        return mask;
+    }
+}
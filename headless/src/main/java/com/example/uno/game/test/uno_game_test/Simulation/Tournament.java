@@ -0,0 +1,221 @@
+package com.example.uno.game.test.uno_game_test.Simulation;
+
+import com.example.uno.game.test.uno_game_test.Archive.GameArchiveWriter;
+import com.example.uno.game.test.uno_game_test.Models.Deck;
+import com.example.uno.game.test.uno_game_test.Models.EngineMetrics;
+import com.example.uno.game.test.uno_game_test.Models.GameEngine;
+import com.example.uno.game.test.uno_game_test.Models.GameRecordWriter;
+import com.example.uno.game.test.uno_game_test.Models.GreedyStrategy;
+import com.example.uno.game.test.uno_game_test.Models.RuleSet;
+import com.example.uno.game.test.uno_game_test.Models.Strategy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Plays many headless games across all cores and aggregates the results.
+ * Every seat is played by a computer Strategy, greedy by default, so strategies
+ * can be compared by their win rate per seat.
+ *
+ * Usage: Tournament [--games N] [--players P] [--seed S] [--threads T] [--max-turns M]
+ *                   [--strategies greedy,heuristic,...] [--rules stacking,jump-in,...] [--archive DIR]
+ * With --strategies, seat i plays the i-th strategy and the list sets the number of players.
+ * --rules takes the house rules as named by RuleSet.byNames.
+ * With --archive, every game is recorded and appended to the game archive in DIR.
+ * Run with -Duno.metrics=true to also print the engine metrics (see EngineMetrics).
+ */
+public class Tournament {
+    // Games played by one fork-join leaf, which reuses a single engine for all of them
+    private static final int GAMES_PER_TASK = 4096;
+
+    private final int numPlayers;
+    private final Strategy[] strategies;
+    private final RuleSet rules;
+    private final long games;
+    private final long seed;
+    private final int maxTurns;
+    private GameArchiveWriter archive;
+
+    public Tournament(int numPlayers, long games, long seed, int maxTurns) {
+        this(filled(numPlayers, GreedyStrategy.INSTANCE), games, seed, maxTurns);
+    }
+
+    /**
+     * @param strategies The strategy for each seat; its length is the number of players
+     */
+    public Tournament(Strategy[] strategies, long games, long seed, int maxTurns) {
+        this(strategies, RuleSet.STANDARD, games, seed, maxTurns);
+    }
+
+    /**
+     * @param strategies The strategy for each seat; its length is the number of players
+     * @param rules      The house rules every game is played by
+     */
+    public Tournament(Strategy[] strategies, RuleSet rules, long games, long seed, int maxTurns) {
+        if (strategies.length < 2) {
+            throw new IllegalArgumentException("A game needs at least 2 players");
+        }
+        this.numPlayers = strategies.length;
+        this.strategies = strategies.clone();
+        this.rules = rules;
+        this.games = games;
+        this.seed = seed;
+        this.maxTurns = maxTurns;
+    }
+
+    /**
+     * Records every game played from now on into archive. The caller closes the archive.
+     */
+    public void setArchive(GameArchiveWriter archive) {
+        this.archive = archive;
+    }
+
+    public TournamentResult run(ForkJoinPool pool) {
+        return pool.invoke(new GamesTask(0, games));
+    }
+
+    public TournamentResult run() {
+        return run(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Plays game number gameId to the end (or maxTurns) on the given engine.
+     */
+    private void playGame(GameEngine engine, long gameId, TournamentResult result, RecordBuffer record) {
+        // Each game has its own seed, so results do not depend on how games are split across threads
+        engine.reset(seed + gameId * 0x9E3779B97F4A7C15L);
+        GameRecordWriter recorder = null;
+        if (record != null) {
+            record.reset();
+            recorder = new GameRecordWriter(record);
+            engine.startRecording(recorder);
+        }
+
+        int turns = 0;
+        while (!engine.isGameOver() && turns < maxTurns) {
+            byte cardId = engine.playTurn(strategies[engine.getCurrentPlayerIndex()]);
+            if (cardId != Deck.NO_CARD) {
+                result.recordPlay(cardId);
+            } else {
+                result.recordDraw();
+            }
+            turns++;
+        }
+
+        result.recordGame(engine.getWinner(), turns);
+
+        if (recorder != null) {
+            try {
+                recorder.close();
+                archive.append(record.contents(), engine.getWinner(), recorder.getMoveCount());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static Strategy[] filled(int numPlayers, Strategy strategy) {
+        Strategy[] strategies = new Strategy[Math.max(numPlayers, 0)];
+        Arrays.fill(strategies, strategy);
+        return strategies;
+    }
+
+    // Never serialized; RecursiveTask is Serializable only by inheritance
+    @SuppressWarnings("serial")
+    private class GamesTask extends RecursiveTask<TournamentResult> {
+        private final long from;
+        private final long to;
+
+        GamesTask(long from, long to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected TournamentResult compute() {
+            if (to - from <= GAMES_PER_TASK) {
+                GameEngine engine = new GameEngine(numPlayers, new SplittableRandom(), rules);
+                TournamentResult result = new TournamentResult(numPlayers);
+                RecordBuffer record = archive != null ? new RecordBuffer() : null;
+                for (long gameId = from; gameId < to; gameId++) {
+                    playGame(engine, gameId, result, record);
+                }
+                return result;
+            }
+
+            long middle = (from + to) >>> 1;
+            GamesTask left = new GamesTask(from, middle);
+            left.fork();
+            TournamentResult right = new GamesTask(middle, to).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    // Reused by one task for the record of each of its games
+    private static final class RecordBuffer extends ByteArrayOutputStream {
+        ByteBuffer contents() {
+            return ByteBuffer.wrap(buf, 0, count);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        long games = 1_000_000;
+        int numPlayers = 4;
+        long seed = System.nanoTime();
+        int threads = Runtime.getRuntime().availableProcessors();
+        int maxTurns = 10_000;
+        Strategy[] strategies = null;
+        RuleSet rules = RuleSet.STANDARD;
+        Path archiveDir = null;
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--games" -> games = Long.parseLong(args[i + 1]);
+                case "--players" -> numPlayers = Integer.parseInt(args[i + 1]);
+                case "--seed" -> seed = Long.parseLong(args[i + 1]);
+                case "--threads" -> threads = Integer.parseInt(args[i + 1]);
+                case "--max-turns" -> maxTurns = Integer.parseInt(args[i + 1]);
+                case "--strategies" -> strategies = Arrays.stream(args[i + 1].split(","))
+                        .map(Strategy::byName)
+                        .toArray(Strategy[]::new);
+                case "--rules" -> rules = RuleSet.byNames(args[i + 1]);
+                case "--archive" -> archiveDir = Path.of(args[i + 1]);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        if (strategies == null) {
+            strategies = filled(numPlayers, GreedyStrategy.INSTANCE);
+        }
+
+        System.out.println("Playing " + games + " games with " + strategies.length + " players on "
+                + threads + " threads (seed " + seed + ", " + rules + ")");
+
+        Tournament tournament = new Tournament(strategies, rules, games, seed, maxTurns);
+        GameArchiveWriter archive = archiveDir != null ? GameArchiveWriter.open(archiveDir) : null;
+        tournament.setArchive(archive);
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        long start = System.nanoTime();
+        TournamentResult result = tournament.run(pool);
+        long elapsed = System.nanoTime() - start;
+        pool.shutdown();
+        if (archive != null) {
+            archive.close();
+            System.out.println("Archived to " + archiveDir + " (" + archive.size() + " games in total)");
+        }
+
+        System.out.print(result);
+        System.out.printf("Elapsed: %.2f s (%.0f games/s)%n",
+                elapsed / 1e9, result.getGames() / (elapsed / 1e9));
+        if (EngineMetrics.ENABLED) {
+            System.out.println(EngineMetrics.snapshot());
+        }
+    }
+}
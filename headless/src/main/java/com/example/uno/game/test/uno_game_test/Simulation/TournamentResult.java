@@ -0,0 +1,107 @@
+package com.example.uno.game.test.uno_game_test.Simulation;
+
+import com.example.uno.game.test.uno_game_test.Models.Card;
+
+/**
+ * Totals for a batch of simulated games.
+ * Each worker fills its own instance; instances are merged once at the end.
+ */
+public class TournamentResult {
+    private static final Card.Type[] TYPES = Card.Type.values();
+
+    private final long[] winsPerSeat;
+    private final long[] playsPerType = new long[TYPES.length];
+    private long games;
+    private long unfinishedGames;
+    private long totalTurns;
+    private long draws;
+
+    public TournamentResult(int numPlayers) {
+        winsPerSeat = new long[numPlayers];
+    }
+
+    void recordGame(int winner, int turns) {
+        games++;
+        totalTurns += turns;
+        if (winner >= 0) {
+            winsPerSeat[winner]++;
+        } else {
+            unfinishedGames++;
+        }
+    }
+
+    void recordPlay(byte cardId) {
+        playsPerType[Card.of(cardId).getType().ordinal()]++;
+    }
+
+    void recordDraw() {
+        draws++;
+    }
+
+    /**
+     * Adds the totals of another result into this one.
+     */
+    public TournamentResult merge(TournamentResult other) {
+        for (int i = 0; i < winsPerSeat.length; i++) {
+            winsPerSeat[i] += other.winsPerSeat[i];
+        }
+        for (int i = 0; i < playsPerType.length; i++) {
+            playsPerType[i] += other.playsPerType[i];
+        }
+        games += other.games;
+        unfinishedGames += other.unfinishedGames;
+        totalTurns += other.totalTurns;
+        draws += other.draws;
+        return this;
+    }
+
+    // Getters
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getUnfinishedGames() {
+        return unfinishedGames;
+    }
+
+    public long getWins(int seat) {
+        return winsPerSeat[seat];
+    }
+
+    public double getWinRate(int seat) {
+        return games == 0 ? 0 : (double) winsPerSeat[seat] / games;
+    }
+
+    public double getAverageTurns() {
+        return games == 0 ? 0 : (double) totalTurns / games;
+    }
+
+    public long getPlays(Card.Type type) {
+        return playsPerType[type.ordinal()];
+    }
+
+    public long getDraws() {
+        return draws;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        text.append("Games: ").append(games)
+                .append(" (unfinished: ").append(unfinishedGames).append(")\n");
+        text.append(String.format("Average turns per game: %.2f%n", getAverageTurns()));
+
+        text.append("Win rate per seat:\n");
+        for (int seat = 0; seat < winsPerSeat.length; seat++) {
+            text.append(String.format("  Seat %d: %.4f (%d wins)%n", seat, getWinRate(seat), winsPerSeat[seat]));
+        }
+
+        text.append("Cards played per type:\n");
+        for (Card.Type type : TYPES) {
+            text.append(String.format("  %-9s %d%n", type, playsPerType[type.ordinal()]));
+        }
+        text.append("Cards drawn instead of playing: ").append(draws).append('\n');
+        return text.toString();
+    }
+}
@@ -0,0 +1,24 @@
+/**
+ * Batch simulation (Tournament), game archives and the multiplayer GameServer, on top of the engine.
+ *
+ * For a small runtime that starts quickly, link just these modules into an image:
+ * <pre>
+ * jlink --module-path engine/target/classes:headless/target/classes \
+ *       --add-modules com.example.uno.game.test.uno_game_test.headless --output target/uno-runtime
+ * </pre>
+ * and record a class data sharing archive from one short run, for later runs to map in:
+ * <pre>
+ * target/uno-runtime/bin/java -XX:ArchiveClassesAtExit=target/tournament.jsa \
+ *       -m com.example.uno.game.test.uno_game_test.headless/com.example.uno.game.test.uno_game_test.Simulation.Tournament --games 1000
+ * target/uno-runtime/bin/java -XX:SharedArchiveFile=target/tournament.jsa -m ... --games 100000
+ * </pre>
+ */
+module com.example.uno.game.test.uno_game_test.headless {
+    requires transitive com.example.uno.game.test.uno_game_test.engine;
+    // ServerMetrics is published over JMX
+    requires java.management;
+
+    exports com.example.uno.game.test.uno_game_test.Archive;
+    exports com.example.uno.game.test.uno_game_test.Server;
+    exports com.example.uno.game.test.uno_game_test.Simulation;
+}
@@ -0,0 +1,200 @@
+package com.example.uno.game.test.uno_game_test.Archive;
+
+import static com.example.uno.game.test.uno_game_test.Archive.ArchiveFormat.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.uno.game.test.uno_game_test.Models.GameEngine;
+import com.example.uno.game.test.uno_game_test.Models.GameRecordWriter;
+import com.example.uno.game.test.uno_game_test.Models.GreedyStrategy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class GameArchiveTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void gamesAndBucketsRoundTrip() throws IOException {
+        List<Recorded> games = record(300, 1);
+        try (GameArchiveWriter writer = GameArchiveWriter.open(directory)) {
+            for (Recorded game : games) {
+                game.appendTo(writer);
+            }
+        }
+
+        try (GameArchiveReader reader = GameArchiveReader.open(directory)) {
+            assertEquals(games.size(), reader.size());
+            for (int id = 0; id < games.size(); id++) {
+                games.get(id).assertStored(reader, id);
+            }
+            assertTrue(reader.hasBuckets());
+
+            long counted = 0;
+            for (int winner = -1; winner < 6; winner++) {
+                List<Long> expected = new ArrayList<>();
+                for (int id = 0; id < games.size(); id++) {
+                    if (games.get(id).winner == winner) {
+                        expected.add((long) id);
+                    }
+                }
+                assertEquals(expected.size(), reader.countByWinner(winner), "games won by " + winner);
+                for (int i = 0; i < expected.size(); i++) {
+                    assertEquals(expected.get(i), reader.getGameByWinner(winner, i));
+                }
+                int seat = winner;
+                int count = expected.size();
+                assertThrows(IndexOutOfBoundsException.class, () -> reader.getGameByWinner(seat, count));
+                counted += count;
+            }
+            assertEquals(games.size(), counted);
+
+            counted = 0;
+            for (int bucket = 0; bucket < GameArchiveReader.LENGTH_BUCKETS; bucket++) {
+                List<Long> expected = new ArrayList<>();
+                for (int id = 0; id < games.size(); id++) {
+                    if (GameArchiveReader.lengthBucketOf(games.get(id).moves) == bucket) {
+                        expected.add((long) id);
+                    }
+                }
+                assertEquals(expected.size(), reader.countByLength(bucket), "games in length bucket " + bucket);
+                for (int i = 0; i < expected.size(); i++) {
+                    assertEquals(expected.get(i), reader.getGameByLength(bucket, i));
+                }
+                int last = bucket;
+                int count = expected.size();
+                assertThrows(IndexOutOfBoundsException.class, () -> reader.getGameByLength(last, count));
+                counted += count;
+            }
+            assertEquals(games.size(), counted);
+
+            assertThrows(IndexOutOfBoundsException.class, () -> reader.getGameByWinner(0, -1));
+            assertThrows(IndexOutOfBoundsException.class, () -> reader.countByWinner(-2));
+            assertThrows(IndexOutOfBoundsException.class, () -> reader.countByWinner(GameEngine.MAX_PLAYERS));
+            assertThrows(IndexOutOfBoundsException.class, () -> reader.getGameByWinner(GameEngine.MAX_PLAYERS, 0));
+            assertThrows(IndexOutOfBoundsException.class, () -> reader.countByLength(-1));
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> reader.getGameByLength(GameArchiveReader.LENGTH_BUCKETS, 0));
+            assertThrows(IndexOutOfBoundsException.class, () -> reader.getRecord(games.size()));
+        }
+    }
+
+    @Test
+    void reopenedWriterDropsWhatWasNeverCounted() throws IOException {
+        List<Recorded> games = record(11, 2);
+        try (GameArchiveWriter writer = GameArchiveWriter.open(directory)) {
+            for (Recorded game : games.subList(0, 10)) {
+                game.appendTo(writer);
+            }
+        }
+        // A record and an index entry written after the last header update, as a crash would leave them
+        append(directory.resolve(RECORDS_FILE), new byte[100]);
+        append(directory.resolve(INDEX_FILE), new byte[INDEX_ENTRY_SIZE]);
+
+        try (GameArchiveWriter writer = GameArchiveWriter.open(directory)) {
+            assertEquals(10, writer.size());
+            assertEquals(10, games.get(10).appendTo(writer));
+            writer.flush();
+
+            try (GameArchiveReader reader = GameArchiveReader.open(directory)) {
+                assertEquals(11, reader.size());
+                assertEquals(reader.getOffset(9) + reader.getLength(9), reader.getOffset(10));
+                for (int id = 0; id < games.size(); id++) {
+                    games.get(id).assertStored(reader, id);
+                }
+                // The buckets were written for 10 games and are only rebuilt on close
+                assertFalse(reader.hasBuckets());
+                assertThrows(IllegalStateException.class, () -> reader.countByWinner(0));
+                assertThrows(IllegalStateException.class, () -> reader.getGameByLength(0, 0));
+            }
+        }
+        try (GameArchiveReader reader = GameArchiveReader.open(directory)) {
+            assertTrue(reader.hasBuckets());
+        }
+    }
+
+    @Test
+    void recordsNeverCrossAChunkBoundary() throws IOException {
+        List<Recorded> games = record(3, 3);
+        try (GameArchiveWriter writer = GameArchiveWriter.open(directory)) {
+            games.get(0).appendTo(writer);
+        }
+        // Move the first record to just before the end of the first chunk, leaving the file sparse before it
+        long offset = CHUNK_SIZE - games.get(0).bytes.length - 10;
+        try (FileChannel records = FileChannel.open(directory.resolve(RECORDS_FILE), StandardOpenOption.WRITE);
+             FileChannel index = FileChannel.open(directory.resolve(INDEX_FILE), StandardOpenOption.WRITE)) {
+            records.write(ByteBuffer.wrap(games.get(0).bytes), offset);
+            index.write(ByteBuffer.allocate(8).putLong(0, offset), indexPosition(0));
+        }
+
+        try (GameArchiveWriter writer = GameArchiveWriter.open(directory)) {
+            games.get(1).appendTo(writer);
+            games.get(2).appendTo(writer);
+        }
+        try (GameArchiveReader reader = GameArchiveReader.open(directory)) {
+            assertEquals(offset, reader.getOffset(0));
+            assertEquals(CHUNK_SIZE, reader.getOffset(1));
+            assertEquals(CHUNK_SIZE + games.get(1).bytes.length, reader.getOffset(2));
+            for (int id = 0; id < games.size(); id++) {
+                games.get(id).assertStored(reader, id);
+            }
+        }
+    }
+
+    // Seeded games of 2 to 6 players, some stopped before they finish
+    private static List<Recorded> record(int count, long seed) throws IOException {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Recorded> games = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int numPlayers = 2 + random.nextInt(5);
+            GameEngine engine = new GameEngine(numPlayers, random.nextLong());
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            GameRecordWriter writer = new GameRecordWriter(out);
+            engine.startRecording(writer);
+            int maxMoves = random.nextInt(4) == 0 ? random.nextInt(40) : 2000;
+            for (int moves = 0; moves < maxMoves && !engine.isGameOver(); moves++) {
+                engine.playTurn(GreedyStrategy.INSTANCE);
+            }
+            writer.close();
+            games.add(new Recorded(out.toByteArray(), numPlayers, engine.getWinner(), writer.getMoveCount()));
+        }
+        return games;
+    }
+
+    private static void append(Path file, byte[] bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(bytes));
+        }
+    }
+
+    private record Recorded(byte[] bytes, int numPlayers, int winner, int moves) {
+        long appendTo(GameArchiveWriter writer) throws IOException {
+            return writer.append(ByteBuffer.wrap(bytes), winner, moves);
+        }
+
+        void assertStored(GameArchiveReader reader, long id) throws IOException {
+            assertEquals(ByteBuffer.wrap(bytes), reader.getRecord(id), "record of game " + id);
+            assertEquals(bytes.length, reader.getLength(id));
+            assertEquals(numPlayers, reader.getNumPlayers(id));
+            assertEquals(winner, reader.getWinner(id));
+            assertEquals(moves, reader.getMoves(id));
+
+            GameEngine engine = new GameEngine(numPlayers, 0L);
+            assertEquals(moves, reader.replayInto(id, engine));
+            assertEquals(winner, engine.getWinner());
+        }
+    }
+}
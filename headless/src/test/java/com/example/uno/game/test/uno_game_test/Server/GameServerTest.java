@@ -0,0 +1,142 @@
+package com.example.uno.game.test.uno_game_test.Server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.uno.game.test.uno_game_test.Models.GameEngine;
+import com.example.uno.game.test.uno_game_test.Models.GreedyStrategy;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * Sends hand-made frames to a server with a single IO thread, which also accepts
+ * connections, so a request that broke the loop would stop the whole server.
+ */
+@Timeout(10)
+class GameServerTest {
+    private GameServer server;
+    private InetSocketAddress address;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = new GameServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1, 1,
+                GreedyStrategy.INSTANCE);
+        server.start();
+        address = new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getPort());
+    }
+
+    @AfterEach
+    void closeServer() throws IOException {
+        server.close();
+    }
+
+    @Test
+    void hostRejectsTablesTheDeckCannotDeal() throws IOException {
+        try (SocketChannel client = SocketChannel.open(address)) {
+            int[][] requests = {
+                    {0, 1, 0}, {1, 1, 0}, {GameEngine.MAX_DEALT_PLAYERS + 1, 1, 0}, {GameEngine.MAX_PLAYERS, 1, 0},
+                    {255, 1, 0}, {4, 0, 0}, {4, 5, 0}, {4, 1, 0xF0},
+            };
+            for (int[] request : requests) {
+                send(client, Protocol.HOST, (byte) request[0], (byte) request[1], (byte) request[2]);
+                assertError(client, 0, ErrorCode.BAD_REQUEST);
+            }
+            send(client, Protocol.HOST, (byte) 4);
+            assertError(client, 0, ErrorCode.BAD_REQUEST);
+            assertEquals(0, server.getTableCount());
+
+            // The connection and the server both carry on
+            send(client, Protocol.HOST, (byte) GameEngine.MAX_DEALT_PLAYERS, (byte) 1, (byte) 0);
+            assertEquals(Protocol.SEATED, readFrame(client).get() & 0xFF);
+            try (SocketChannel other = SocketChannel.open(address)) {
+                send(other, Protocol.HOST, (byte) 4, (byte) 1, (byte) 0);
+                assertEquals(Protocol.SEATED, readFrame(other).get() & 0xFF);
+                assertEquals(2, server.getTableCount());
+            }
+        }
+    }
+
+    @Test
+    void badMoveFramesAreRefused() throws IOException {
+        try (SocketChannel client = SocketChannel.open(address); SocketChannel stranger = SocketChannel.open(address)) {
+            // Two players, the client first: the game starts at once and it is the client's turn
+            send(client, Protocol.HOST, (byte) 2, (byte) 1, (byte) 0);
+            ByteBuffer seated = readFrame(client);
+            assertEquals(Protocol.SEATED, seated.get() & 0xFF);
+            int tableId = seated.getInt();
+            assertEquals(Protocol.KEYFRAME, readFrame(client).get() & 0xFF);
+
+            send(client, Protocol.MOVE, (byte) 0, (byte) 0);
+            assertError(client, 0, ErrorCode.BAD_REQUEST);
+            send(client, Protocol.MOVE, table(tableId + 1, (byte) 0, (byte) 0));
+            assertError(client, tableId + 1, ErrorCode.UNKNOWN_TABLE);
+            send(client, Protocol.MOVE, table(tableId, (byte) 0));
+            assertError(client, tableId, ErrorCode.BAD_REQUEST);
+            send(client, Protocol.MOVE, table(tableId, (byte) 0, (byte) 0, (byte) 0));
+            assertError(client, tableId, ErrorCode.BAD_REQUEST);
+            send(client, 0x7F, table(tableId));
+            assertError(client, tableId, ErrorCode.BAD_REQUEST);
+            send(client, Protocol.MOVE, table(tableId, (byte) 100, (byte) 0));
+            assertError(client, tableId, ErrorCode.INVALID_MOVE);
+            send(client, Protocol.MOVE, table(tableId, (byte) -100, (byte) 0));
+            assertError(client, tableId, ErrorCode.INVALID_MOVE);
+
+            send(stranger, Protocol.MOVE, table(tableId, (byte) -1, (byte) 0));
+            assertError(stranger, tableId, ErrorCode.NOT_SEATED);
+
+            // Drawing is always allowed, and the table answers with an update
+            send(client, Protocol.MOVE, table(tableId, (byte) -1, (byte) 0));
+            int type = readFrame(client).get() & 0xFF;
+            assertTrue(type == Protocol.DELTA || type == Protocol.KEYFRAME, "update after the draw");
+        }
+    }
+
+    private static byte[] table(int tableId, byte... rest) {
+        ByteBuffer payload = ByteBuffer.allocate(4 + rest.length).putInt(tableId).put(rest);
+        return payload.array();
+    }
+
+    private static void send(SocketChannel channel, int type, byte... payload) throws IOException {
+        ByteBuffer frame = ByteBuffer.allocate(Protocol.FRAME_HEADER_SIZE + payload.length)
+                .putShort((short) (payload.length + 1))
+                .put((byte) type)
+                .put(payload)
+                .flip();
+        while (frame.hasRemaining()) {
+            channel.write(frame);
+        }
+    }
+
+    // Returns the type and payload of the next frame
+    private static ByteBuffer readFrame(SocketChannel channel) throws IOException {
+        ByteBuffer length = readFully(channel, 2);
+        return readFully(channel, length.getShort() & 0xFFFF);
+    }
+
+    private static ByteBuffer readFully(SocketChannel channel, int size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Server closed the connection");
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static void assertError(SocketChannel channel, int tableId, ErrorCode code) throws IOException {
+        ByteBuffer frame = readFrame(channel);
+        assertEquals(Protocol.ERROR, frame.get() & 0xFF, "frame type");
+        assertEquals(tableId, frame.getInt(), "table");
+        assertEquals(code, ErrorCode.of(frame.get() & 0xFF));
+    }
+}
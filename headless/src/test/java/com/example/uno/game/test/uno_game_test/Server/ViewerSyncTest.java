@@ -0,0 +1,115 @@
+package com.example.uno.game.test.uno_game_test.Server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.uno.game.test.uno_game_test.Models.GameEngine;
+import com.example.uno.game.test.uno_game_test.Models.GreedyStrategy;
+import com.example.uno.game.test.uno_game_test.Models.RuleSet;
+
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class ViewerSyncTest {
+    private static final int TABLE_ID = 7;
+
+    @Test
+    void keyframeAndDeltasRebuildTheServerView() {
+        SplittableRandom random = new SplittableRandom(5);
+        int keyframes = 0;
+        int deltas = 0;
+        for (int flags = 0; flags < 16; flags++) {
+            RuleSet rules = RuleSet.fromFlags(flags);
+            for (int game = 0; game < 10; game++) {
+                int numPlayers = 2 + random.nextInt(5);
+                GameEngine engine = new GameEngine(numPlayers, random.nextLong(), rules);
+                int seat = random.nextInt(numPlayers);
+                ViewerSync sync = new ViewerSync(TABLE_ID, seat, numPlayers, flags);
+                LoopbackClient.State state = new LoopbackClient.State(TABLE_ID, random);
+                int sequence = -1;
+
+                for (int moves = 0; moves < 500; moves++) {
+                    if (random.nextInt(100) == 0) {
+                        sync.requestKeyframe();
+                    }
+                    ByteBuffer frame = sync.encode(engine, flagsFor(engine, seat));
+                    int type = frame.get(2) & 0xFF;
+                    ByteBuffer payload = frame.slice(Protocol.FRAME_HEADER_SIZE, frame.limit() - Protocol.FRAME_HEADER_SIZE);
+                    assertEquals(TABLE_ID, payload.getInt());
+                    int frameSequence = payload.get(payload.position()) & 0xFF;
+                    if (sequence >= 0) {
+                        assertEquals((sequence + 1) & 0xFF, frameSequence, "sequence");
+                    }
+                    sequence = frameSequence;
+                    if (type == Protocol.KEYFRAME) {
+                        keyframes++;
+                        state.readKeyframe(payload);
+                    } else {
+                        assertEquals(Protocol.DELTA, type);
+                        deltas++;
+                        payload.get(); // the sequence, checked above
+                        state.readDelta(payload);
+                    }
+                    assertEquals(0, payload.remaining(), "unread payload");
+                    assertSameView(engine, seat, rules, state);
+
+                    if (engine.isGameOver()) {
+                        break;
+                    }
+                    playMove(engine, random);
+                }
+            }
+        }
+        assertTrue(deltas > 10 * keyframes, "most updates should be deltas");
+    }
+
+    private static int flagsFor(GameEngine engine, int seat) {
+        return (engine.isClockwise() ? Protocol.CLOCKWISE : 0)
+                | (engine.getCurrentPlayerIndex() == seat && engine.canChallenge() ? Protocol.CAN_CHALLENGE : 0)
+                | Protocol.STARTED;
+    }
+
+    // Strategy turns, with the challenges and jump-ins that change the view in other ways
+    private static void playMove(GameEngine engine, SplittableRandom random) {
+        if (engine.canChallenge() && random.nextBoolean()) {
+            engine.challenge();
+            return;
+        }
+        if (engine.getRules().jumpIn()) {
+            int seat = random.nextInt(engine.getNumPlayers());
+            for (int i = 0; i < engine.getHandSize(seat); i++) {
+                if (engine.canJumpIn(seat, i)) {
+                    engine.jumpIn(seat, i);
+                    return;
+                }
+            }
+        }
+        engine.playTurn(GreedyStrategy.INSTANCE);
+    }
+
+    private static void assertSameView(GameEngine engine, int seat, RuleSet rules, LoopbackClient.State state) {
+        assertEquals(seat, state.getSeat());
+        assertEquals(rules, state.getRules());
+        assertEquals(engine.getNumPlayers(), state.getNumPlayers());
+        assertEquals(engine.getCurrentPlayerIndex(), state.getCurrentPlayer(), "current player");
+        assertEquals(engine.isClockwise(), state.isClockwise(), "direction");
+        assertEquals(engine.getCurrentPlayerIndex() == seat && engine.canChallenge(), state.canChallenge(), "challenge");
+        assertEquals(engine.getTopCard(), state.getTopCard(), "top card");
+        assertEquals(engine.getCurrentColor(), state.getCurrentColor(), "current color");
+        assertEquals(engine.getPendingDraw(), state.getPendingDraw(), "pending penalty");
+        assertEquals(engine.isGameOver() ? engine.getWinner() : -1, state.getWinner(), "winner");
+        assertEquals(engine.getDrawPileSize(), state.getDrawPileSize(), "draw pile");
+        for (int i = 0; i < engine.getNumPlayers(); i++) {
+            assertEquals(engine.getHandSize(i), state.getHandSize(i), "hand size of seat " + i);
+        }
+        assertEquals(engine.getHandSize(seat), state.getHandSize(), "hand size");
+        for (int i = 0; i < engine.getHandSize(seat); i++) {
+            assertEquals(engine.getCard(seat, i), state.getCard(i), "card " + i);
+        }
+        long playable = engine.getCurrentPlayerIndex() == seat && !engine.isGameOver()
+                ? engine.getCurrentPlayerView().getPlayableMask() : 0;
+        assertEquals(playable, state.getPlayableMask(), "playable cards");
+    }
+}